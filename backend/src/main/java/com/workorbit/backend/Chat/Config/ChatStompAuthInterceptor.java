@@ -0,0 +1,106 @@
+package com.workorbit.backend.Chat.Config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.workorbit.backend.Auth.DTO.AppUserDetails;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Auth.Service.JwtService;
+import com.workorbit.backend.Auth.Service.UserDetailsServiceImpl;
+import com.workorbit.backend.Chat.Exception.ChatAccessDeniedException;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import com.workorbit.backend.Chat.Service.ChatMessagePublisher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authenticates STOMP sessions with the same JWT used by the REST API and
+ * only lets participants subscribe to a chat room's topic. The access check
+ * runs once per subscription; pushes to the topic need no further queries.
+ * Messages are still sent through the REST API, so client SEND frames are
+ * rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatStompAuthInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsServiceImpl userDetailsService;
+    // Not ChatService: it publishes through the broker this interceptor is part of
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> accessor.setUser(authenticate(accessor));
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            case SEND -> throw new ChatAccessDeniedException("Messages must be sent through /api/chat/send");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            throw new ChatAccessDeniedException("Missing bearer token on STOMP CONNECT");
+        }
+
+        String jwt = authHeader.substring(BEARER_PREFIX.length());
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                throw new ChatAccessDeniedException("Invalid or expired token");
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (ChatAccessDeniedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Rejected STOMP CONNECT: {}", e.getMessage());
+            throw new ChatAccessDeniedException("Invalid or expired token", e);
+        }
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken auth)
+                || !(auth.getPrincipal() instanceof AppUserDetails userDetails)) {
+            throw new ChatAccessDeniedException("STOMP session is not authenticated");
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ChatMessagePublisher.ROOM_TOPIC_PREFIX)) {
+            throw new ChatAccessDeniedException("Unknown destination: " + destination);
+        }
+
+        Long chatRoomId;
+        try {
+            chatRoomId = Long.valueOf(destination.substring(ChatMessagePublisher.ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new ChatAccessDeniedException("Unknown destination: " + destination);
+        }
+
+        String userType = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals(Role.ROLE_CLIENT.toString()))
+                ? "CLIENT" : "FREELANCER";
+        if (!chatRoomRepository.isParticipant(chatRoomId, userDetails.getProfileId(), userType)) {
+            throw new ChatAccessDeniedException(chatRoomId, userDetails.getProfileId());
+        }
+        log.debug("User {} ({}) subscribed to chat room {}", userDetails.getProfileId(), userType, chatRoomId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.workorbit.backend.Chat.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP over WebSocket for real-time chat delivery. Clients connect to
+ * {@code /ws/chat} with an {@code Authorization: Bearer <jwt>} header on the
+ * CONNECT frame and subscribe to {@code /topic/chat/rooms/{chatRoomId}}.
+ * The broker is the in-process simple broker, so delivery is per node.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class ChatWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final ChatStompAuthInterceptor chatStompAuthInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/chat")
+                .setAllowedOrigins("https://work-orbit.netlify.app", "http://localhost:5173");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatStompAuthInterceptor);
+    }
+}
@@ -13,6 +13,7 @@ import com.workorbit.backend.Chat.Exception.ChatAccessDeniedException;
 import com.workorbit.backend.Chat.Exception.ChatRoomNotFoundException;
 import com.workorbit.backend.Chat.Exception.ChatTransitionException;
 import com.workorbit.backend.Chat.Exception.InvalidChatOperationException;
+import com.workorbit.backend.Chat.Service.ChatMessageStreams;
 import com.workorbit.backend.Chat.Service.ChatService;
 import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
 import com.workorbit.backend.DTO.ApiResponse;
@@ -25,14 +26,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -44,6 +48,7 @@ public class ChatController {
     private final BidService bidService;
     private final MilestoneService milestoneService;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageStreams chatMessageStreams;
 
     @PostMapping("/send")
     public ResponseEntity<ApiResponse<ChatMessageResponse>> sendMessage(
@@ -105,21 +110,70 @@ public class ChatController {
                 .body(ApiResponse.error("Failed to retrieve chat history: " + e.getMessage()));
         }
     }
-    
+
+    /**
+     * Cursor-paged chat history keyed by message id: {@code before} pages back
+     * (newest first), {@code after} pages forward (oldest first). Unlike
+     * {@code /messages}, deep pages cost the same as the first and no count query runs.
+     */
+    @GetMapping("/rooms/{chatRoomId}/messages/history")
+    public ResponseEntity<ApiResponse<ChatHistoryResponse>> getChatHistoryByCursor(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        try {
+            AppUserDetails userDetails = getCurrentUserDetails();
+            String userType = getUserType(userDetails);
+
+            ChatHistoryResponse history = chatService.getChatHistory(
+                chatRoomId, before, after, limit, userDetails.getProfileId(), userType);
+
+            log.info("Retrieved {} messages for chat room {} by user {}",
+                history.getMessages().size(), chatRoomId, userDetails.getProfileId());
+
+            return ResponseEntity.ok(ApiResponse.success(history));
+
+        } catch (ChatRoomNotFoundException | ChatAccessDeniedException e) {
+            log.error("Access error retrieving chat history: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving chat history: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to retrieve chat history: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Polls for messages after {@code afterId}, the id of the last message the
+     * caller has. {@code since} (a timestamp) is kept for older clients but can
+     * skip or repeat messages that share a timestamp.
+     */
     @GetMapping("/rooms/{chatRoomId}/messages/since")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getNewMessages(
             @PathVariable Long chatRoomId,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
         
         try {
             AppUserDetails userDetails = getCurrentUserDetails();
             String userType = getUserType(userDetails);
             
-            List<ChatMessageResponse> newMessages = chatService.getNewMessages(
-                chatRoomId, since, userDetails.getProfileId(), userType);
+            List<ChatMessageResponse> newMessages;
+            if (afterId != null) {
+                newMessages = chatService.getMessagesAfter(
+                    chatRoomId, afterId, userDetails.getProfileId(), userType);
+            } else if (since != null) {
+                newMessages = chatService.getNewMessages(
+                    chatRoomId, since, userDetails.getProfileId(), userType);
+            } else {
+                throw new IllegalArgumentException("Either afterId or since is required");
+            }
             
-            log.info("Retrieved {} new messages for chat room {} by user {} since {}", 
-                newMessages.size(), chatRoomId, userDetails.getProfileId(), since);
+            log.info("Retrieved {} new messages for chat room {} by user {} after {} / since {}", 
+                newMessages.size(), chatRoomId, userDetails.getProfileId(), afterId, since);
             
             return ResponseEntity.ok(ApiResponse.success(newMessages));
             
@@ -134,6 +188,69 @@ public class ChatController {
         }
     }
 
+    /**
+     * Long-poll variant of {@code /messages/since}: answers as soon as there is a
+     * message after {@code afterId} (or {@code since}), or with an empty list
+     * after {@code wait} seconds.
+     */
+    @GetMapping("/rooms/{chatRoomId}/messages/wait")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ChatMessageResponse>>>> awaitNewMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "" + ChatMessageStreams.DEFAULT_WAIT_SECONDS) long wait) {
+
+        try {
+            AppUserDetails userDetails = getCurrentUserDetails();
+            String userType = getUserType(userDetails);
+            if (afterId == null && since == null) {
+                throw new IllegalArgumentException("Either afterId or since is required");
+            }
+
+            return chatMessageStreams
+                .awaitMessages(chatRoomId, afterId, since, wait, userDetails.getProfileId(), userType)
+                .thenApply(messages -> ResponseEntity.ok(ApiResponse.success(messages)));
+
+        } catch (ChatRoomNotFoundException | ChatAccessDeniedException e) {
+            log.error("Access error waiting for new messages: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error(e.getMessage())));
+        } catch (Exception e) {
+            log.error("Error waiting for new messages: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to retrieve new messages: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Server-Sent Events stream of the room's messages ("message" events carrying a
+     * ChatMessageResponse, with the message id as event id), optionally replaying
+     * those posted after {@code afterId} or {@code since}. A reconnecting
+     * EventSource resumes from its Last-Event-ID header.
+     */
+    @GetMapping(value = "/rooms/{chatRoomId}/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        try {
+            AppUserDetails userDetails = getCurrentUserDetails();
+            String userType = getUserType(userDetails);
+
+            return ResponseEntity.ok(chatMessageStreams.stream(chatRoomId,
+                afterId != null ? afterId : lastEventId, since, userDetails.getProfileId(), userType));
+
+        } catch (ChatRoomNotFoundException | ChatAccessDeniedException e) {
+            log.error("Access error opening message stream: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (Exception e) {
+            log.error("Error opening message stream: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     @GetMapping("/rooms/user")
     public ResponseEntity<ApiResponse<List<ChatRoomResponse>>> getUserChatRooms() {
         
@@ -0,0 +1,20 @@
+package com.workorbit.backend.Chat.DTO;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One page of a room's messages fetched by message id cursor. Pass nextCursor
+ * back as the same parameter (before or after) to continue in that direction.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+
+    // Newest first when paging back with before, oldest first when paging forward with after
+    private List<ChatMessageResponse> messages;
+    private Long nextCursor;
+    private boolean hasMore;
+}
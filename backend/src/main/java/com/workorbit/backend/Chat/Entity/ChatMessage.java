@@ -16,8 +16,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "chat_messages", indexes = {
     @Index(name = "idx_chat_room_created_at", columnList = "chat_room_id, created_at"),
-    @Index(name = "idx_sender_type_sender_id", columnList = "sender_type, sender_id"),
-    @Index(name = "idx_is_read", columnList = "is_read")
+    @Index(name = "idx_chat_room_id_id", columnList = "chat_room_id, id"),
+    @Index(name = "idx_sender_type_sender_id", columnList = "sender_type, sender_id")
 })
 public class ChatMessage {
 
@@ -44,6 +44,8 @@ public class ChatMessage {
     @Column(name = "message_type", nullable = false)
     private MessageType messageType = MessageType.TEXT;
 
+    // No longer maintained: read state comes from the read watermarks on ChatRoom.
+    // Kept because existing schemas declare the column NOT NULL.
     @Column(name = "is_read", nullable = false)
     private boolean isRead = false;
 
@@ -4,6 +4,7 @@ import com.workorbit.backend.Entity.Client;
 import com.workorbit.backend.Entity.Freelancer;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,6 +22,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "chat_rooms", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"chat_type", "reference_id"})
+}, indexes = {
+    @Index(name = "idx_chat_room_status_type_id", columnList = "status, chat_type, id")
 })
 public class ChatRoom {
 
@@ -59,6 +62,35 @@ public class ChatRoom {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Message bookkeeping below is maintained only by ChatRoomRepository's atomic updates,
+    // never by entity updates, so that concurrent senders and readers don't overwrite each other
+
+    @Column(name = "last_message_id", updatable = false)
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at", updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    // Messages the client hasn't read yet (sent by the freelancer or the system)
+    @ColumnDefault("0")
+    @Column(name = "client_unread_count", nullable = false, updatable = false)
+    private Integer clientUnreadCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "freelancer_unread_count", nullable = false, updatable = false)
+    private Integer freelancerUnreadCount = 0;
+
+    // Read watermarks: the last message id each participant has read up to
+    @Column(name = "client_last_read_message_id", updatable = false)
+    private Long clientLastReadMessageId;
+
+    @Column(name = "freelancer_last_read_message_id", updatable = false)
+    private Long freelancerLastReadMessageId;
+
+    // Every message up to this id has been moved to chat_archive_segments; null if none
+    @Column(name = "archived_up_to_message_id", updatable = false)
+    private Long archivedUpToMessageId;
+
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatMessage> messages = new ArrayList<>();
 
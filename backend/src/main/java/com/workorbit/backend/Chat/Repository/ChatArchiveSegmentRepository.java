@@ -0,0 +1,30 @@
+package com.workorbit.backend.Chat.Repository;
+
+import com.workorbit.backend.Chat.Entity.ChatArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatArchiveSegmentRepository extends JpaRepository<ChatArchiveSegment, Long> {
+
+    // 🧊 Segments holding messages sent after a point in time, oldest segment first
+    List<ChatArchiveSegment> findByChatRoomIdAndLastMessageAtAfterOrderByFirstMessageIdAsc(
+        Long chatRoomId, LocalDateTime since);
+
+    @Query("SELECT COALESCE(SUM(s.messageCount), 0) FROM ChatArchiveSegment s WHERE s.chatRoomId = :chatRoomId")
+    long countArchivedMessages(@Param("chatRoomId") Long chatRoomId);
+
+    // 🧊 The newest segment holding messages older than a cursor
+    Optional<ChatArchiveSegment> findFirstByChatRoomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(
+        Long chatRoomId, Long beforeId);
+
+    // 🧊 The oldest segment holding messages newer than a cursor
+    Optional<ChatArchiveSegment> findFirstByChatRoomIdAndLastMessageIdGreaterThanOrderByFirstMessageIdAsc(
+        Long chatRoomId, Long afterId);
+}
@@ -1,6 +1,7 @@
 package com.workorbit.backend.Chat.Repository;
 
 import com.workorbit.backend.Chat.Entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,28 +18,24 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     
     Page<ChatMessage> findByChatRoom_IdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
 
-    @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE " +
-           "cm.chatRoom.id = :chatRoomId AND " +
-           "cm.isRead = false AND " +
-           "((cm.senderType = 'CLIENT' AND :userType = 'FREELANCER') OR " +
-           "(cm.senderType = 'FREELANCER' AND :userType = 'CLIENT') OR " +
-           "cm.senderType = 'SYSTEM')")
-    Long countUnreadMessagesForUser(@Param("chatRoomId") Long chatRoomId, @Param("userType") String userType);
-
-    
     @Query("SELECT cm FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId " +
            "ORDER BY cm.createdAt DESC LIMIT 1")
     ChatMessage findLatestMessageInChatRoom(@Param("chatRoomId") Long chatRoomId);
     
     List<ChatMessage> findByChatRoom_IdAndCreatedAtAfterOrderByCreatedAtAsc(
         Long chatRoomId, LocalDateTime timestamp);
-    
+
+    // 🔢 Id-cursor pages: ids only grow, so unlike created_at they never tie and need no count query
+    List<ChatMessage> findByChatRoom_IdOrderByIdDesc(Long chatRoomId, Limit limit);
+
+    List<ChatMessage> findByChatRoom_IdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long beforeId, Limit limit);
+
+    List<ChatMessage> findByChatRoom_IdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long afterId, Limit limit);
+
+    // 🧊 The next run of a room's messages to move to cold storage
+    List<ChatMessage> findByChatRoom_IdAndIdLessThanOrderByIdAsc(Long chatRoomId, Long beforeId, Limit limit);
+
     @Modifying
-    @Query("UPDATE ChatMessage cm SET cm.isRead = true WHERE " +
-           "cm.chatRoom.id = :chatRoomId AND " +
-           "cm.isRead = false AND " +
-           "((cm.senderType = 'CLIENT' AND :userType = 'FREELANCER') OR " +
-           "(cm.senderType = 'FREELANCER' AND :userType = 'CLIENT') OR " +
-           "cm.senderType = 'SYSTEM')")
-    int markMessagesAsReadForUser(@Param("chatRoomId") Long chatRoomId, @Param("userType") String userType);
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
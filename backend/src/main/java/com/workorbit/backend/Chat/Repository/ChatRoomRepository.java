@@ -1,6 +1,9 @@
 package com.workorbit.backend.Chat.Repository;
 
+import com.workorbit.backend.Chat.Entity.ChatMessage;
 import com.workorbit.backend.Chat.Entity.ChatRoom;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,22 +21,180 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     Optional<ChatRoom> findByChatTypeAndReferenceId(ChatRoom.ChatType chatType, Long referenceId);
 
-    @Query("SELECT cr FROM ChatRoom cr WHERE " +
+    // 📬 A room list row: the room, both parties, its latest message and the caller's unread count
+    interface ChatRoomListView {
+        Long getId();
+        ChatRoom.ChatType getChatType();
+        Long getReferenceId();
+        ChatRoom.ChatStatus getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        Long getClientId();
+        String getClientName();
+        Long getFreelancerId();
+        String getFreelancerName();
+        Long getClientLastReadMessageId();
+        Long getFreelancerLastReadMessageId();
+        Long getLastMessageId();
+        ChatMessage.SenderType getLastMessageSenderType();
+        Long getLastMessageSenderId();
+        String getLastMessageContent();
+        ChatMessage.MessageType getLastMessageType();
+        LocalDateTime getLastMessageCreatedAt();
+        Long getUnreadCount();
+    }
+
+    String ROOM_LIST_SELECT = "SELECT cr.id AS id, cr.chatType AS chatType, cr.referenceId AS referenceId, " +
+           "cr.status AS status, cr.createdAt AS createdAt, cr.updatedAt AS updatedAt, " +
+           "c.id AS clientId, c.name AS clientName, f.id AS freelancerId, f.name AS freelancerName, " +
+           "cr.clientLastReadMessageId AS clientLastReadMessageId, " +
+           "cr.freelancerLastReadMessageId AS freelancerLastReadMessageId, " +
+           "m.id AS lastMessageId, m.senderType AS lastMessageSenderType, m.senderId AS lastMessageSenderId, " +
+           "m.content AS lastMessageContent, m.messageType AS lastMessageType, " +
+           "m.createdAt AS lastMessageCreatedAt, " +
+           "CASE WHEN :userType = 'CLIENT' THEN cr.clientUnreadCount ELSE cr.freelancerUnreadCount END AS unreadCount " +
+           "FROM ChatRoom cr JOIN cr.client c JOIN cr.freelancer f " +
+           "LEFT JOIN ChatMessage m ON m.id = cr.lastMessageId ";
+
+    String PARTICIPANT_FILTER = "WHERE ((c.id = :userId AND :userType = 'CLIENT') OR (f.id = :userId AND :userType = 'FREELANCER')) ";
+
+    // 📋 All of a user's rooms, most recently active first, in one round trip
+    @Query(ROOM_LIST_SELECT + PARTICIPANT_FILTER + "ORDER BY cr.updatedAt DESC")
+    List<ChatRoomListView> findUserChatRoomViews(@Param("userId") Long userId, @Param("userType") String userType);
+
+    // 🟢 Same, limited to active rooms
+    @Query(ROOM_LIST_SELECT + PARTICIPANT_FILTER + "AND cr.status = 'ACTIVE' ORDER BY cr.updatedAt DESC")
+    List<ChatRoomListView> findActiveChatRoomViews(@Param("userId") Long userId, @Param("userType") String userType);
+
+    // 🔍 A single room, with the unread count for the given side
+    @Query(ROOM_LIST_SELECT + "WHERE cr.id = :chatRoomId")
+    Optional<ChatRoomListView> findChatRoomView(@Param("chatRoomId") Long chatRoomId, @Param("userType") String userType);
+
+    @Query("SELECT COUNT(cr) > 0 FROM ChatRoom cr WHERE cr.id = :chatRoomId AND (" +
            "(cr.client.id = :userId AND :userType = 'CLIENT') OR " +
-           "(cr.freelancer.id = :userId AND :userType = 'FREELANCER') " +
-           "ORDER BY cr.updatedAt DESC")
-    List<ChatRoom> findUserChatRooms(@Param("userId") Long userId, @Param("userType") String userType);
-    
-    @Query("SELECT cr FROM ChatRoom cr LEFT JOIN cr.messages m WHERE " +
-           "((cr.client.id = :userId AND :userType = 'CLIENT') OR " +
-           "(cr.freelancer.id = :userId AND :userType = 'FREELANCER')) AND " +
-           "cr.status = 'ACTIVE' " +
-           "ORDER BY cr.updatedAt DESC")
-    List<ChatRoom> findActiveChatRoomsForUser(@Param("userId") Long userId, @Param("userType") String userType);
-
-    @Query("SELECT cr FROM ChatRoom cr WHERE " +
+           "(cr.freelancer.id = :userId AND :userType = 'FREELANCER'))")
+    boolean isParticipant(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId,
+                          @Param("userType") String userType);
+
+    // 👥 Both participants' ids and names in one row: client id, client name, freelancer id, freelancer name
+    @Query("SELECT c.id, c.name, f.id, f.name FROM ChatRoom cr JOIN cr.client c JOIN cr.freelancer f " +
+           "WHERE cr.id = :chatRoomId")
+    List<Object[]> findParticipantNames(@Param("chatRoomId") Long chatRoomId);
+
+    // 🔒 Locks the rooms about to receive messages until commit, so each room's message ids are assigned in
+    // commit order; rooms are locked in id order so that multi-room batches can't deadlock
+    @Query(value = "SELECT id FROM chat_rooms WHERE id IN (:chatRoomIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockForNewMessages(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+
+    // ✉️ Moves the last-message pointer and adds to the unread counts of whoever didn't send the new messages
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.lastMessageId = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId " +
+           "THEN :messageId ELSE cr.lastMessageId END, " +
+           "cr.lastMessageAt = :sentAt, cr.updatedAt = :sentAt, " +
+           "cr.clientUnreadCount = cr.clientUnreadCount + :clientUnread, " +
+           "cr.freelancerUnreadCount = cr.freelancerUnreadCount + :freelancerUnread " +
+           "WHERE cr.id = :chatRoomId")
+    int recordMessages(@Param("chatRoomId") Long chatRoomId, @Param("messageId") Long messageId,
+                       @Param("clientUnread") int clientUnread, @Param("freelancerUnread") int freelancerUnread,
+                       @Param("sentAt") LocalDateTime sentAt);
+
+    // 📢 Same bookkeeping for one system message just inserted into each of many rooms
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.lastMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = cr), " +
+           "cr.lastMessageAt = :sentAt, cr.updatedAt = :sentAt, " +
+           "cr.clientUnreadCount = cr.clientUnreadCount + 1, " +
+           "cr.freelancerUnreadCount = cr.freelancerUnreadCount + 1 " +
+           "WHERE cr.id IN :chatRoomIds")
+    int recordSystemMessages(@Param("chatRoomIds") List<Long> chatRoomIds, @Param("sentAt") LocalDateTime sentAt);
+
+    // 👀 Moves the client's read watermark to the latest message, a single-row update
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET cr.clientLastReadMessageId = cr.lastMessageId, cr.clientUnreadCount = 0 " +
+           "WHERE cr.id = :chatRoomId AND cr.clientUnreadCount > 0")
+    int markReadByClient(@Param("chatRoomId") Long chatRoomId);
+
+    // 👀 Same for the freelancer
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET cr.freelancerLastReadMessageId = cr.lastMessageId, cr.freelancerUnreadCount = 0 " +
+           "WHERE cr.id = :chatRoomId AND cr.freelancerUnreadCount > 0")
+    int markReadByFreelancer(@Param("chatRoomId") Long chatRoomId);
+
+    // 🏁 Rooms from before read watermarks: derive them from the legacy per-message read flags
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.clientLastReadMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.isRead = true AND m.senderType <> 'CLIENT'), " +
+           "cr.freelancerLastReadMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.isRead = true AND m.senderType <> 'FREELANCER') " +
+           "WHERE cr.lastMessageId IS NULL AND EXISTS (SELECT 1 FROM ChatMessage m WHERE m.chatRoom = cr)")
+    int initializeReadWatermarks();
+
+    // 🛠️ Recomputes drifted last-message pointers and unread counts from the messages and watermarks.
+    // Rooms with archived messages are skipped: their counts can't be recomputed from the live table alone.
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.lastMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = cr), " +
+           "cr.lastMessageAt = (SELECT MAX(m.createdAt) FROM ChatMessage m WHERE m.chatRoom = cr), " +
+           "cr.clientUnreadCount = (SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.senderType <> 'CLIENT' AND m.id > COALESCE(cr.clientLastReadMessageId, 0)), " +
+           "cr.freelancerUnreadCount = (SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.senderType <> 'FREELANCER' AND m.id > COALESCE(cr.freelancerLastReadMessageId, 0)) " +
+           "WHERE cr.archivedUpToMessageId IS NULL " +
+           "AND (COALESCE(cr.lastMessageId, 0) <> COALESCE((SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = cr), 0) " +
+           "OR cr.clientUnreadCount <> (SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.senderType <> 'CLIENT' AND m.id > COALESCE(cr.clientLastReadMessageId, 0)) " +
+           "OR cr.freelancerUnreadCount <> (SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom = cr " +
+           "AND m.senderType <> 'FREELANCER' AND m.id > COALESCE(cr.freelancerLastReadMessageId, 0)))")
+    int repairMessageCounters();
+
+    // 🧊 Archived or closed rooms, quiet since the cutoff, that still have messages other than their last one live
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.status IN ('ARCHIVED', 'CLOSED') " +
+           "AND cr.lastMessageAt < :cutoffDate AND cr.id > :afterRoomId " +
+           "AND EXISTS (SELECT 1 FROM ChatMessage m WHERE m.chatRoom = cr AND m.id < cr.lastMessageId) " +
+           "ORDER BY cr.id")
+    List<Long> findRoomIdsWithMessagesToArchive(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                                @Param("afterRoomId") Long afterRoomId, Pageable pageable);
+
+    // 🧊 Records that a room's messages up to an id now live in archive segments
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET cr.archivedUpToMessageId = :messageId WHERE cr.id = :chatRoomId " +
+           "AND COALESCE(cr.archivedUpToMessageId, 0) < :messageId")
+    int markArchivedUpTo(@Param("chatRoomId") Long chatRoomId, @Param("messageId") Long messageId);
+
+    // 🗄️ Next chunk of contract chats due for archiving, in id order after a keyset cursor
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE " +
+           "cr.chatType = 'CONTRACT' AND " +
+           "cr.status = 'ACTIVE' AND " +
+           "cr.updatedAt < :cutoffDate AND " +
+           "cr.id > :afterId " +
+           "ORDER BY cr.id")
+    List<Long> findContractChatIdsToArchive(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                            @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT COUNT(cr) FROM ChatRoom cr WHERE " +
            "cr.chatType = 'CONTRACT' AND " +
            "cr.status = 'ACTIVE' AND " +
            "cr.updatedAt < :cutoffDate")
-    List<ChatRoom> findContractChatsToArchive(@Param("cutoffDate") LocalDateTime cutoffDate);
+    long countContractChatsToArchive(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // 🗄️ Archives still-active rooms, stamping them so the caller can tell which rows it changed
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom cr SET cr.status = 'ARCHIVED', cr.updatedAt = :archivedAt " +
+           "WHERE cr.id IN :chatRoomIds AND cr.status = 'ACTIVE'")
+    int archiveActiveRooms(@Param("chatRoomIds") List<Long> chatRoomIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.id IN :chatRoomIds " +
+           "AND cr.status = 'ARCHIVED' AND cr.updatedAt = :archivedAt")
+    List<Long> findIdsArchivedAt(@Param("chatRoomIds") List<Long> chatRoomIds,
+                                 @Param("archivedAt") LocalDateTime archivedAt);
 }
@@ -0,0 +1,52 @@
+package com.workorbit.backend.Chat.Scheduler;
+
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs the per-room message bookkeeping on ChatRoom (last message pointer
+ * and unread counts). Sending and reading keep it current; on startup this
+ * also backfills rooms created before the columns existed, seeding their read
+ * watermarks from the old per-message read flags.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCounterScheduler {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int initialized = chatRoomRepository.initializeReadWatermarks();
+            if (initialized > 0) {
+                log.info("Initialized read watermarks of {} chat rooms", initialized);
+            }
+        } catch (Exception e) {
+            log.error("Error initializing chat room read watermarks: {}", e.getMessage(), e);
+        }
+        repairMessageCounters();
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?") // Run at 04:30 every day
+    public void repairMessageCounters() {
+        log.info("Running scheduled task to repair chat room message counters");
+
+        try {
+            int repaired = chatRoomRepository.repairMessageCounters();
+            if (repaired > 0) {
+                log.warn("Repaired message counters of {} chat rooms", repaired);
+            } else {
+                log.info("All chat room message counters are consistent");
+            }
+        } catch (Exception e) {
+            log.error("Error during scheduled chat room counter repair: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,16 +3,29 @@ package com.workorbit.backend.Chat.Scheduler;
 
 import com.workorbit.backend.Chat.Entity.ChatRoom;
 import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import com.workorbit.backend.Chat.Service.ChatMessageArchiver;
+import com.workorbit.backend.Chat.Service.ChatRoomAccessCache;
 import com.workorbit.backend.Chat.Service.ChatService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for handling scheduled tasks related to chat rooms.
@@ -24,39 +37,125 @@ public class ChatScheduler {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatService chatService;
+    private final ChatMessageArchiver chatMessageArchiver;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.chat.archive.chunk-size:1000}")
+    private int archiveChunkSize;
+
+    // Progress of contract chat archiving, exported as chat.archive.*
+    private final AtomicLong archiveBacklog = new AtomicLong();
+    private Counter archivedRooms;
+    private Timer archiveChunkTimer;
+
+    private static final int MESSAGE_ARCHIVE_GRACE_DAYS = 30;
+    private static final int MESSAGE_ARCHIVE_ROOM_BATCH = 100;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("chat.archive.backlog", archiveBacklog);
+        archivedRooms = meterRegistry.counter("chat.archive.rooms");
+        archiveChunkTimer = meterRegistry.timer("chat.archive.chunk");
+    }
     
     /**
      * Archives chat rooms for completed or cancelled contracts after a grace period.
      * Runs daily at midnight.
+     *
+     * <p>Rooms are processed in chunks of {@code app.chat.archive.chunk-size}, in id
+     * order. Each chunk is one transaction: a bulk status update, one batched insert
+     * of the closing notifications and one bulk update of the rooms' message
+     * bookkeeping. A run that dies part way keeps the chunks it committed; the
+     * rest are still ACTIVE and are picked up by the next run.
      */
     @Scheduled(cron = "0 0 0 * * ?") // Run at midnight every day
-    @Transactional
     public void archiveCompletedContractChats() {
         log.info("Running scheduled task to archive completed contract chats");
-        
+
         // Find active contract chat rooms with last update more than 7 days ago
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(7);
-        
-        List<ChatRoom> chatRoomsToArchive = chatRoomRepository.findContractChatsToArchive(cutoffDate);
-        log.info("Found {} chat rooms to archive", chatRoomsToArchive.size());
-        
-        for (ChatRoom chatRoom : chatRoomsToArchive) {
+
+        long backlog = chatRoomRepository.countContractChatsToArchive(cutoffDate);
+        archiveBacklog.set(backlog);
+        log.info("Found {} chat rooms to archive", backlog);
+
+        Timer.Sample run = Timer.start(meterRegistry);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long lastRoomId = 0;
+        long archived = 0;
+        List<Long> chunk;
+        while (!(chunk = chatRoomRepository.findContractChatIdsToArchive(cutoffDate, lastRoomId,
+                Limit.of(archiveChunkSize))).isEmpty()) {
+            lastRoomId = chunk.get(chunk.size() - 1);
+            List<Long> roomIds = chunk;
             try {
-                // Send final notification
-                chatService.sendSystemNotification(chatRoom.getId(), 
-                        "This chat room is now being archived as the contract has been completed or cancelled.");
-                
-                // Update status to ARCHIVED
-                chatRoom.setStatus(ChatRoom.ChatStatus.ARCHIVED);
-                chatRoomRepository.save(chatRoom);
-                
-                log.info("Successfully archived chat room: {}", chatRoom.getId());
+                Integer count = archiveChunkTimer.record(() ->
+                        transactionTemplate.execute(status -> archiveChunk(roomIds)));
+                if (count != null) {
+                    archived += count;
+                    archivedRooms.increment(count);
+                }
             } catch (Exception e) {
-                log.error("Failed to archive chat room: {}", chatRoom.getId(), e);
+                // Rolled back as a whole; these rooms are retried by the next run
+                log.error("Failed to archive chat rooms {} to {}", roomIds.get(0), lastRoomId, e);
             }
+            archiveBacklog.set(Math.max(0, backlog - archived));
+            log.debug("Archived {} of {} chat rooms", archived, backlog);
         }
+        run.stop(meterRegistry.timer("chat.archive.run"));
+        log.info("Archived {} chat rooms", archived);
     }
-    
+
+    private int archiveChunk(List<Long> roomIds) {
+        // The timestamp identifies the rooms this transaction archived, so a room archived
+        // concurrently (e.g. by another node) doesn't get a second notification
+        LocalDateTime archivedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int changed = chatRoomRepository.archiveActiveRooms(roomIds, archivedAt);
+        if (changed == 0) {
+            return 0;
+        }
+        List<Long> archivedIds = changed == roomIds.size()
+                ? roomIds
+                : chatRoomRepository.findIdsArchivedAt(roomIds, archivedAt);
+        chatRoomAccessCache.evictAll(archivedIds);
+        chatService.sendSystemNotifications(archivedIds,
+                "This chat room is now being archived as the contract has been completed or cancelled.",
+                archivedAt);
+        return archivedIds.size();
+    }
+
+    /**
+     * Moves the messages of archived and closed chat rooms that have been quiet for
+     * a while to compressed archive segments, keeping chat_messages small.
+     * Runs daily at 1 AM.
+     */
+    @Scheduled(cron = "0 0 1 * * ?")
+    public void archiveInactiveChatMessages() {
+        log.info("Running scheduled task to archive messages of inactive chat rooms");
+
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(MESSAGE_ARCHIVE_GRACE_DAYS);
+        long lastRoomId = 0;
+        int rooms = 0;
+        long messages = 0;
+        List<Long> roomIds;
+        while (!(roomIds = chatRoomRepository.findRoomIdsWithMessagesToArchive(cutoffDate, lastRoomId,
+                PageRequest.of(0, MESSAGE_ARCHIVE_ROOM_BATCH))).isEmpty()) {
+            for (Long roomId : roomIds) {
+                try {
+                    // Each segment commits on its own; a failed room is picked up again tomorrow
+                    messages += chatMessageArchiver.archiveRoom(roomId);
+                    rooms++;
+                } catch (Exception e) {
+                    log.error("Failed to archive messages of chat room: {}", roomId, e);
+                }
+            }
+            lastRoomId = roomIds.get(roomIds.size() - 1);
+        }
+        log.info("Archived {} messages from {} chat rooms", messages, rooms);
+    }
+
     /**
      * Marks chat rooms as ARCHIVED for contracts that have been completed or cancelled.
      * This method can be called directly when a contract status changes.
@@ -0,0 +1,214 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workorbit.backend.Chat.Entity.ChatArchiveSegment;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Entity.ChatRoom;
+import com.workorbit.backend.Chat.Repository.ChatArchiveSegmentRepository;
+import com.workorbit.backend.Chat.Repository.ChatMessageRepository;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the messages of archived and closed rooms out of chat_messages into
+ * {@link ChatArchiveSegment}s: runs of up to {@link #SEGMENT_SIZE} messages,
+ * oldest first, each stored as one gzip-compressed JSON array. A room's last
+ * message stays live so the room list can still show it.
+ *
+ * <p>Messages are archived in id order, so every archived message of a room
+ * is older than every live one and {@link ChatRoom#getArchivedUpToMessageId()}
+ * tells readers whether the archive needs to be consulted at all. The read
+ * methods return detached {@link ChatMessage}s so callers map them like live ones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiver {
+
+    static final int SEGMENT_SIZE = 1000;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // What a segment stores per message; the room is implied by the segment
+    record ArchivedMessage(Long id, ChatMessage.SenderType senderType, Long senderId, String content,
+                           ChatMessage.MessageType messageType, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Archives every message of the room except the last one, one segment per
+     * transaction, so an interrupted run loses no work and simply continues
+     * on the next one.
+     *
+     * @return the number of messages moved
+     */
+    public int archiveRoom(Long chatRoomId) {
+        int archived = 0;
+        int moved;
+        while ((moved = archiveNextSegment(chatRoomId)) > 0) {
+            archived += moved;
+        }
+        if (archived > 0) {
+            log.info("Archived {} messages of chat room {}", archived, chatRoomId);
+        }
+        return archived;
+    }
+
+    /**
+     * Up to {@code limit} archived messages with an id below {@code beforeId}
+     * (all of them when null), newest first.
+     */
+    public List<ChatMessage> loadBefore(ChatRoom chatRoom, Long beforeId, int limit) {
+        List<ChatMessage> messages = new ArrayList<>();
+        long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        long segmentCursor = cursor;
+        while (messages.size() < limit) {
+            Optional<ChatArchiveSegment> segment = chatArchiveSegmentRepository
+                    .findFirstByChatRoomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(chatRoom.getId(),
+                            segmentCursor);
+            if (segment.isEmpty()) {
+                break;
+            }
+            List<ArchivedMessage> stored = decode(segment.get().getPayload());
+            for (int i = stored.size() - 1; i >= 0 && messages.size() < limit; i--) {
+                if (stored.get(i).id() < cursor) {
+                    messages.add(toMessage(stored.get(i), chatRoom));
+                }
+            }
+            segmentCursor = segment.get().getFirstMessageId();
+        }
+        return messages;
+    }
+
+    /**
+     * Up to {@code limit} archived messages with an id above {@code afterId}, oldest first.
+     */
+    public List<ChatMessage> loadAfter(ChatRoom chatRoom, Long afterId, int limit) {
+        List<ChatMessage> messages = new ArrayList<>();
+        long segmentCursor = afterId;
+        while (messages.size() < limit) {
+            Optional<ChatArchiveSegment> segment = chatArchiveSegmentRepository
+                    .findFirstByChatRoomIdAndLastMessageIdGreaterThanOrderByFirstMessageIdAsc(chatRoom.getId(),
+                            segmentCursor);
+            if (segment.isEmpty()) {
+                break;
+            }
+            for (ArchivedMessage message : decode(segment.get().getPayload())) {
+                if (message.id() > afterId && messages.size() < limit) {
+                    messages.add(toMessage(message, chatRoom));
+                }
+            }
+            segmentCursor = segment.get().getLastMessageId();
+        }
+        return messages;
+    }
+
+    /**
+     * Archived messages sent after {@code since}, oldest first.
+     */
+    public List<ChatMessage> loadSince(ChatRoom chatRoom, LocalDateTime since) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (ChatArchiveSegment segment : chatArchiveSegmentRepository
+                .findByChatRoomIdAndLastMessageAtAfterOrderByFirstMessageIdAsc(chatRoom.getId(), since)) {
+            for (ArchivedMessage message : decode(segment.getPayload())) {
+                if (message.createdAt().isAfter(since)) {
+                    messages.add(toMessage(message, chatRoom));
+                }
+            }
+        }
+        return messages;
+    }
+
+    public long countArchived(Long chatRoomId) {
+        return chatArchiveSegmentRepository.countArchivedMessages(chatRoomId);
+    }
+
+    private int archiveNextSegment(Long chatRoomId) {
+        Integer moved = new TransactionTemplate(transactionManager).execute(status -> {
+            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).orElse(null);
+            if (chatRoom == null || chatRoom.getLastMessageId() == null) {
+                return 0;
+            }
+            List<ChatMessage> messages = chatMessageRepository.findByChatRoom_IdAndIdLessThanOrderByIdAsc(
+                    chatRoomId, chatRoom.getLastMessageId(), Limit.of(SEGMENT_SIZE));
+            if (messages.isEmpty()) {
+                return 0;
+            }
+
+            ChatMessage first = messages.get(0);
+            ChatMessage last = messages.get(messages.size() - 1);
+            ChatArchiveSegment segment = new ChatArchiveSegment();
+            segment.setChatRoomId(chatRoomId);
+            segment.setFirstMessageId(first.getId());
+            segment.setLastMessageId(last.getId());
+            segment.setLastMessageAt(last.getCreatedAt());
+            segment.setMessageCount(messages.size());
+            segment.setPayload(encode(messages.stream()
+                    .map(message -> new ArchivedMessage(message.getId(), message.getSenderType(),
+                            message.getSenderId(), message.getContent(), message.getMessageType(),
+                            message.getCreatedAt()))
+                    .toList()));
+            chatArchiveSegmentRepository.save(segment);
+
+            chatMessageRepository.deleteByIdIn(messages.stream().map(ChatMessage::getId).toList());
+            chatRoomRepository.markArchivedUpTo(chatRoomId, last.getId());
+            return messages.size();
+        });
+        return moved != null ? moved : 0;
+    }
+
+    private byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode chat archive segment", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, new TypeReference<List<ArchivedMessage>>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode chat archive segment", e);
+        }
+    }
+
+    private static ChatMessage toMessage(ArchivedMessage archived, ChatRoom chatRoom) {
+        ChatMessage message = new ChatMessage();
+        message.setId(archived.id());
+        message.setChatRoom(chatRoom);
+        message.setSenderType(archived.senderType());
+        message.setSenderId(archived.senderId());
+        message.setContent(archived.content());
+        message.setMessageType(archived.messageType());
+        message.setCreatedAt(archived.createdAt());
+        return message;
+    }
+}
@@ -0,0 +1,155 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local append-only log of chat messages accepted in write-behind mode but not
+ * yet inserted into the database. Each entry is one JSON line with a sequence
+ * number; a checkpoint file records the last sequence number that reached the
+ * database. Entries are written with {@link #write} and made durable with
+ * {@link #sync}, where concurrent writers share one fsync. Once everything is
+ * checkpointed the log is truncated.
+ */
+@Slf4j
+class ChatMessageLog implements AutoCloseable {
+
+    private static final String LOG_FILE = "chat-messages.log";
+    private static final String CHECKPOINT_FILE = "chat-messages.checkpoint";
+    private static final long COMPACT_AFTER_BYTES = 16L * 1024 * 1024;
+
+    record Entry(long seq, Long chatRoomId, ChatMessage.SenderType senderType, Long senderId, String content,
+                 ChatMessage.MessageType messageType, LocalDateTime createdAt) {
+    }
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final Object forceLock = new Object();
+
+    private long lastSeq;
+    private long checkpointSeq;
+    private volatile long writtenSeq;
+    private long forcedSeq;
+
+    /**
+     * Opens the log in {@code directory}, creating it if needed. Entries left over
+     * from a previous run are available through {@link #readUnflushed()}.
+     */
+    ChatMessageLog(Path directory, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (Files.exists(checkpoint)) {
+            checkpointSeq = Long.parseLong(Files.readString(checkpoint).trim());
+        }
+        lastSeq = checkpointSeq;
+        channel = FileChannel.open(directory.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    /**
+     * Entries written after the last checkpoint, in sequence order. A torn final
+     * line from a crash mid-append was never acknowledged; it is cut off so the
+     * next append starts on a fresh line.
+     */
+    synchronized List<Entry> readUnflushed() throws IOException {
+        byte[] content = Files.readAllBytes(directory.resolve(LOG_FILE));
+        int complete = content.length;
+        while (complete > 0 && content[complete - 1] != '\n') {
+            complete--;
+        }
+        if (complete < content.length) {
+            log.warn("Discarding {} bytes of a partially written chat message log entry", content.length - complete);
+            channel.truncate(complete);
+            channel.position(complete);
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (String line : new String(content, 0, complete, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Entry entry = objectMapper.readValue(line, Entry.class);
+            lastSeq = Math.max(lastSeq, entry.seq());
+            if (entry.seq() > checkpointSeq) {
+                entries.add(entry);
+            }
+        }
+        writtenSeq = lastSeq;
+        forcedSeq = lastSeq;
+        return entries;
+    }
+
+    /**
+     * Appends an entry, not yet durable. The sequence number passed in is ignored;
+     * the returned entry carries the assigned one.
+     */
+    synchronized Entry write(Entry entry) throws IOException {
+        Entry sequenced = new Entry(++lastSeq, entry.chatRoomId(), entry.senderType(), entry.senderId(),
+                entry.content(), entry.messageType(), entry.createdAt());
+        ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(sequenced) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        writtenSeq = sequenced.seq();
+        return sequenced;
+    }
+
+    /**
+     * Waits until every entry up to {@code seq} is on disk. Group commit: one
+     * force covers every entry written before it started.
+     */
+    void sync(long seq) throws IOException {
+        synchronized (forceLock) {
+            if (forcedSeq < seq) {
+                long target = writtenSeq;
+                channel.force(false);
+                forcedSeq = target;
+            }
+        }
+    }
+
+    /**
+     * Records that every entry up to {@code seq} is in the database.
+     */
+    synchronized void checkpoint(long seq) throws IOException {
+        if (seq <= checkpointSeq) {
+            return;
+        }
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(seq));
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSeq = seq;
+
+        // Nothing pending: start the log over so it doesn't grow without bound
+        if (seq == lastSeq && channel.size() > COMPACT_AFTER_BYTES) {
+            channel.truncate(0);
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.workorbit.backend.Chat.Service;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workorbit.backend.Chat.DTO.ChatMessageResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes saved chat messages to the room's STOMP topic and wakes any
+ * long-poll or SSE requests parked on the room, so participants receive them
+ * without polling. Messages saved inside a transaction are only pushed once
+ * it commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePublisher {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/chat/rooms/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomNotifier chatRoomNotifier;
+
+    public static String roomTopic(Long chatRoomId) {
+        return ROOM_TOPIC_PREFIX + chatRoomId;
+    }
+
+    public void publish(ChatMessageResponse message) {
+        afterCommit(() -> {
+            chatRoomNotifier.notifyRoom(message);
+            try {
+                messagingTemplate.convertAndSend(roomTopic(message.getChatRoomId()), message);
+            } catch (Exception e) {
+                // Clients still pick the message up through the polling endpoint
+                log.warn("Failed to push message {} to chat room {}", message.getId(), message.getChatRoomId(), e);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
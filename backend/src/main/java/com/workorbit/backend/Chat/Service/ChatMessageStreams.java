@@ -0,0 +1,158 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.workorbit.backend.Chat.DTO.ChatMessageResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hold-until-data long polls and Server-Sent Event streams for chat rooms,
+ * for clients that can't use the STOMP endpoint. Both run on async servlet
+ * support: a waiting request holds no servlet thread and no database
+ * connection, and is woken through {@link ChatRoomNotifier} when a message
+ * is committed. Access is checked, and missed messages are read, once when
+ * the request arrives. Callers resume from the id of the last message they
+ * have ({@code afterId}); the older {@code since} timestamp is still accepted.
+ * Live messages are delivered on the notifier's threads, never the sender's.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageStreams {
+
+    public static final long DEFAULT_WAIT_SECONDS = 25;
+    public static final long MAX_WAIT_SECONDS = 60;
+    private static final long STREAM_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final ChatService chatService;
+    private final ChatRoomNotifier chatRoomNotifier;
+
+    // Open SSE streams, kept so they can be sent heartbeats
+    private final Map<SseEmitter, Long> openStreams = new ConcurrentHashMap<>();
+
+    /**
+     * Completes with the messages posted after {@code afterId} (or {@code since}
+     * when no id is given): immediately if there already are some, otherwise with
+     * the next message committed to the room, or with an empty list once
+     * {@code waitSeconds} have passed.
+     */
+    public CompletableFuture<List<ChatMessageResponse>> awaitMessages(Long chatRoomId, Long afterId,
+            LocalDateTime since, long waitSeconds, Long userId, String userType) {
+        CompletableFuture<List<ChatMessageResponse>> result = new CompletableFuture<>();
+
+        // Listen before reading so a message committed in between still wakes us
+        ChatRoomNotifier.Subscription subscription = chatRoomNotifier.subscribe(chatRoomId,
+                message -> result.complete(List.of(message)),
+                () -> result.complete(List.of()));
+        result.whenComplete((messages, error) -> subscription.cancel());
+
+        try {
+            List<ChatMessageResponse> pending = loadMissed(chatRoomId, afterId, since, userId, userType);
+            if (!pending.isEmpty()) {
+                result.complete(pending);
+            }
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            throw e;
+        }
+        subscription.resume();
+
+        long timeout = Math.max(1, Math.min(waitSeconds, MAX_WAIT_SECONDS));
+        return result.completeOnTimeout(List.of(), timeout, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Opens an SSE stream of the room's messages. When {@code afterId} (e.g. from
+     * Last-Event-ID) or {@code since} is given, the messages posted after it are
+     * sent first. Each message is sent once, in id order. A client that can't
+     * keep up has its stream ended and reconnects from its last event id.
+     */
+    public SseEmitter stream(Long chatRoomId, Long afterId, LocalDateTime since, Long userId, String userType) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        AtomicLong lastSentId = new AtomicLong(afterId != null ? afterId : 0);
+
+        // Live messages queue until the replay has been sent, then skip anything it already covered
+        ChatRoomNotifier.Subscription subscription = chatRoomNotifier.subscribe(chatRoomId,
+                message -> sendOnce(emitter, message, lastSentId),
+                emitter::complete);
+        Runnable close = () -> {
+            subscription.cancel();
+            openStreams.remove(emitter);
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+
+        try {
+            // Checks access even when there is nothing to replay
+            List<ChatMessageResponse> missed = loadMissed(chatRoomId, afterId,
+                    since != null ? since : LocalDateTime.now(), userId, userType);
+            missed.forEach(message -> sendOnce(emitter, message, lastSentId));
+        } catch (RuntimeException e) {
+            close.run();
+            throw e;
+        }
+        subscription.resume();
+
+        openStreams.put(emitter, chatRoomId);
+        log.debug("Opened chat stream for room {} by user {} ({})", chatRoomId, userId, userType);
+        return emitter;
+    }
+
+    public int getOpenStreamCount() {
+        return openStreams.size();
+    }
+
+    // Keeps idle streams alive through proxies and detects clients that went away
+    @Scheduled(fixedDelay = 15_000)
+    public void sendHeartbeats() {
+        openStreams.keySet().forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        });
+    }
+
+    private List<ChatMessageResponse> loadMissed(Long chatRoomId, Long afterId, LocalDateTime since,
+            Long userId, String userType) {
+        return afterId != null
+                ? chatService.getMessagesAfter(chatRoomId, afterId, userId, userType)
+                : chatService.getNewMessages(chatRoomId, since, userId, userType);
+    }
+
+    // A room's message ids are assigned in commit order, so nothing at or below the last sent id is still to come
+    private void sendOnce(SseEmitter emitter, ChatMessageResponse message, AtomicLong lastSentId) {
+        if (message.getId() <= lastSentId.get()) {
+            return;
+        }
+        lastSentId.set(message.getId());
+        send(emitter, message);
+    }
+
+    private void send(SseEmitter emitter, ChatMessageResponse message) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(message.getId()))
+                    .name("message")
+                    .data(message));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping chat stream for room {}: {}", message.getChatRoomId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workorbit.backend.Chat.DTO.ChatMessageResponse;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind path for chat messages ({@code app.chat.write-behind.enabled}).
+ * A message is acknowledged once it is appended to the local {@link ChatMessageLog};
+ * a background flush then inserts pending messages in JDBC batches and applies one
+ * room bookkeeping update per room and batch, in a single transaction.
+ *
+ * <p>Acknowledged messages have no id yet. They reach other participants, and
+ * the id-based history and polling endpoints, once flushed (within about
+ * {@link #FLUSH_INTERVAL_MILLIS}). Messages still in the log when the process
+ * stops are inserted on the next start. The log is local to this node, so
+ * the mode is meant for a single instance with persistent local disk.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehind {
+
+    static final int BATCH_SIZE = 500;
+    static final long FLUSH_INTERVAL_MILLIS = 200;
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages "
+            + "(chat_room_id, sender_type, sender_id, content, message_type, is_read, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, false, ?)";
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM chat_messages WHERE chat_room_id = ? "
+            + "AND sender_type = ? AND sender_id = ? AND created_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessagePublisher chatMessagePublisher;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.chat.write-behind.log-dir:chat-wal}")
+    private String logDirectory;
+
+    // A logged message and, for messages accepted by this run, the response to publish once it has an id
+    private record Pending(ChatMessageLog.Entry entry, ChatMessageResponse response) {
+    }
+
+    private ChatMessageLog messageLog;
+    // Guarded by itself; in log sequence order
+    private final Deque<Pending> pending = new ArrayDeque<>();
+    // Entries recovered from the log may already have been inserted before a crash
+    private long recoveredUpToSeq;
+    private final Object flushLock = new Object();
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        messageLog = new ChatMessageLog(Path.of(logDirectory), objectMapper);
+        List<ChatMessageLog.Entry> unflushed = messageLog.readUnflushed();
+        unflushed.forEach(entry -> pending.add(new Pending(entry, null)));
+        if (!unflushed.isEmpty()) {
+            recoveredUpToSeq = unflushed.get(unflushed.size() - 1).seq();
+            log.info("Recovered {} chat messages from the write-behind log", unflushed.size());
+        }
+        log.info("Chat write-behind enabled, logging to {}", Path.of(logDirectory).toAbsolutePath());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Logs a message durably and queues it for insertion. {@code response} is what
+     * the sender gets back; it is published with its id once the message is flushed.
+     */
+    public ChatMessageResponse enqueue(ChatMessage message, ChatMessageResponse response) {
+        ChatMessageLog.Entry entry = new ChatMessageLog.Entry(0, message.getChatRoom().getId(),
+                message.getSenderType(), message.getSenderId(), message.getContent(), message.getMessageType(),
+                message.getCreatedAt());
+        try {
+            // Writing and queueing together keeps the queue in log order
+            ChatMessageLog.Entry logged;
+            synchronized (pending) {
+                logged = messageLog.write(entry);
+                pending.add(new Pending(logged, response));
+            }
+            // Acknowledge only once the entry is durable
+            messageLog.sync(logged.seq());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log chat message", e);
+        }
+        return response;
+    }
+
+    /**
+     * Timestamp for a message accepted now, at the precision the database keeps,
+     * so the logged value matches the stored one.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            List<Pending> batch;
+            while (!(batch = nextBatch()).isEmpty()) {
+                try {
+                    flushBatch(batch);
+                } catch (Exception e) {
+                    // Left queued and retried on the next run
+                    log.error("Failed to flush {} chat messages: {}", batch.size(), e.getMessage(), e);
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        messageLog.close();
+    }
+
+    private List<Pending> nextBatch() {
+        synchronized (pending) {
+            List<Pending> batch = new ArrayList<>(Math.min(pending.size(), BATCH_SIZE));
+            for (Pending message : pending) {
+                if (batch.size() == BATCH_SIZE) {
+                    break;
+                }
+                batch.add(message);
+            }
+            return batch;
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        List<Pending> toInsert = batch.get(0).entry().seq() <= recoveredUpToSeq ? withoutInserted(batch) : batch;
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            chatRoomRepository.lockForNewMessages(toInsert.stream().map(message -> message.entry().chatRoomId())
+                    .collect(Collectors.toSet()));
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            ChatMessageLog.Entry entry = toInsert.get(i).entry();
+                            statement.setLong(1, entry.chatRoomId());
+                            statement.setString(2, entry.senderType().name());
+                            if (entry.senderId() != null) {
+                                statement.setLong(3, entry.senderId());
+                            } else {
+                                statement.setNull(3, Types.BIGINT);
+                            }
+                            statement.setString(4, entry.content());
+                            statement.setString(5, entry.messageType().name());
+                            statement.setTimestamp(6, Timestamp.valueOf(entry.createdAt()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return toInsert.size();
+                        }
+                    }, keys);
+
+            // One bookkeeping update per room instead of one per message
+            Map<Long, RoomUpdate> rooms = new LinkedHashMap<>();
+            List<Map<String, Object>> keyList = keys.getKeyList();
+            for (int i = 0; i < toInsert.size(); i++) {
+                Pending message = toInsert.get(i);
+                long id = ((Number) keyList.get(i).values().iterator().next()).longValue();
+                if (message.response() != null) {
+                    message.response().setId(id);
+                }
+                rooms.computeIfAbsent(message.entry().chatRoomId(), roomId -> new RoomUpdate())
+                        .add(id, message.entry());
+            }
+            rooms.forEach((roomId, update) -> chatRoomRepository.recordMessages(roomId, update.lastMessageId,
+                    update.clientUnread, update.freelancerUnread, update.lastSentAt));
+        });
+    }
+
+    private void flushBatch(List<Pending> batch) {
+        try {
+            insert(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                // e.g. a recovered message whose room has since been deleted; don't let it block the rest
+                ChatMessageLog.Entry entry = batch.get(0).entry();
+                log.error("Dropping chat message {} for room {} from user {} ({}): {}", entry.seq(),
+                        entry.chatRoomId(), entry.senderId(), entry.senderType(), e.getMessage());
+            } else {
+                log.warn("Chat message batch rejected, flushing one at a time: {}", e.getMessage());
+                for (Pending message : batch) {
+                    flushBatch(List.of(message));
+                }
+                return;
+            }
+        }
+        synchronized (pending) {
+            batch.forEach(ignored -> pending.poll());
+        }
+        afterFlush(batch);
+    }
+
+    private List<Pending> withoutInserted(List<Pending> batch) {
+        return batch.stream()
+                .filter(message -> {
+                    ChatMessageLog.Entry entry = message.entry();
+                    Long count = jdbcTemplate.queryForObject(EXISTS_SQL, Long.class, entry.chatRoomId(),
+                            entry.senderType().name(), entry.senderId(), Timestamp.valueOf(entry.createdAt()));
+                    return count == null || count == 0;
+                })
+                .toList();
+    }
+
+    private void afterFlush(List<Pending> batch) {
+        try {
+            messageLog.checkpoint(batch.get(batch.size() - 1).entry().seq());
+        } catch (IOException e) {
+            // The messages are in the database; without the checkpoint they are re-checked on restart
+            log.warn("Failed to checkpoint the chat message log: {}", e.getMessage());
+        }
+        batch.stream()
+                .map(Pending::response)
+                .filter(response -> response != null && response.getId() != null)
+                .forEach(chatMessagePublisher::publish);
+        log.debug("Flushed {} chat messages", batch.size());
+    }
+
+    private static class RoomUpdate {
+        private long lastMessageId;
+        private LocalDateTime lastSentAt;
+        private int clientUnread;
+        private int freelancerUnread;
+
+        void add(long messageId, ChatMessageLog.Entry entry) {
+            lastMessageId = Math.max(lastMessageId, messageId);
+            lastSentAt = entry.createdAt();
+            if (entry.senderType() != ChatMessage.SenderType.CLIENT) {
+                clientUnread++;
+            }
+            if (entry.senderType() != ChatMessage.SenderType.FREELANCER) {
+                freelancerUnread++;
+            }
+        }
+    }
+}
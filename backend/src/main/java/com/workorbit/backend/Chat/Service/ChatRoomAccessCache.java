@@ -0,0 +1,105 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workorbit.backend.Chat.Entity.ChatRoom;
+
+/**
+ * Bounded cache of who belongs to each chat room, so the access check on the
+ * hot chat endpoints (sending and polling) doesn't load the room every time.
+ * A room's participants never change; its status does, so the status
+ * transitions evict the room. Entries also expire after {@link #TTL}, and the
+ * least recently used ones are dropped beyond {@link #MAX_ENTRIES}.
+ */
+@Component
+public class ChatRoomAccessCache {
+
+    static final int MAX_ENTRIES = 50_000;
+    static final Duration TTL = Duration.ofMinutes(30);
+
+    public record Membership(long clientId, long freelancerId, ChatRoom.ChatStatus status) {
+
+        public boolean isParticipant(Long userId, String userType) {
+            if (userId == null) {
+                return false;
+            }
+            return ("CLIENT".equals(userType) && clientId == userId)
+                    || ("FREELANCER".equals(userType) && freelancerId == userId);
+        }
+    }
+
+    private record Entry(Membership membership, long expiresAtMillis) {
+    }
+
+    // Access-ordered so eviction drops the least recently used room
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public synchronized Optional<Membership> get(Long chatRoomId) {
+        Entry entry = entries.get(chatRoomId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+            entries.remove(chatRoomId);
+            return Optional.empty();
+        }
+        return Optional.of(entry.membership());
+    }
+
+    /**
+     * Caches the membership of a loaded room and returns it. {@code getId()} on
+     * the lazy client and freelancer doesn't load them.
+     */
+    public Membership put(ChatRoom chatRoom) {
+        Membership membership = new Membership(chatRoom.getClient().getId(), chatRoom.getFreelancer().getId(),
+                chatRoom.getStatus());
+        synchronized (this) {
+            entries.put(chatRoom.getId(), new Entry(membership, System.currentTimeMillis() + TTL.toMillis()));
+        }
+        return membership;
+    }
+
+    /**
+     * Evicts a room whose status is changing. Inside a transaction the room is
+     * evicted again once it commits, so a concurrent reader can't re-cache the
+     * old status in between.
+     */
+    public void evict(Long chatRoomId) {
+        evictAll(List.of(chatRoomId));
+    }
+
+    public void evictAll(Collection<Long> chatRoomIds) {
+        remove(chatRoomIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> ids = List.copyOf(chatRoomIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(ids);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void remove(Collection<Long> chatRoomIds) {
+        chatRoomIds.forEach(entries::remove);
+    }
+}
@@ -0,0 +1,148 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.workorbit.backend.Chat.DTO.ChatMessageResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory, per-room registry of listeners waiting for new chat messages.
+ * Long-poll and SSE requests park a listener here instead of polling the
+ * database, and {@link ChatMessagePublisher} wakes them once a message has
+ * been committed. Listeners are only held by this node.
+ *
+ * <p>Notifying only enqueues: each subscription has a bounded queue that is
+ * drained on a virtual thread, one message at a time and in the order they
+ * were notified, so a slow client never holds up the sender or other
+ * subscribers. A subscription whose queue fills up is cancelled and its
+ * overflow action run; SSE clients then reconnect and replay from their
+ * last event id.
+ */
+@Slf4j
+@Component
+public class ChatRoomNotifier {
+
+    private final Map<Long, Set<Subscription>> subscriptionsByRoom = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.chat.delivery-queue-capacity:256}")
+    private int queueCapacity;
+
+    /**
+     * Registers a listener for the room. Messages are queued but not delivered
+     * until {@link Subscription#resume()} is called, so the caller can first
+     * send what it read from the database.
+     */
+    public Subscription subscribe(Long chatRoomId, Consumer<ChatMessageResponse> listener, Runnable onOverflow) {
+        Subscription subscription = new Subscription(chatRoomId, listener, onOverflow, queueCapacity);
+        subscriptionsByRoom.computeIfAbsent(chatRoomId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    public void notifyRoom(ChatMessageResponse message) {
+        Set<Subscription> subscriptions = subscriptionsByRoom.get(message.getChatRoomId());
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> subscription.offer(message));
+        }
+    }
+
+    public int getListenerCount() {
+        return subscriptionsByRoom.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    public final class Subscription {
+
+        private final Long chatRoomId;
+        private final Consumer<ChatMessageResponse> listener;
+        private final Runnable onOverflow;
+        private final BlockingQueue<ChatMessageResponse> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean paused = true;
+        private volatile boolean cancelled;
+
+        private Subscription(Long chatRoomId, Consumer<ChatMessageResponse> listener, Runnable onOverflow,
+                int capacity) {
+            this.chatRoomId = chatRoomId;
+            this.listener = listener;
+            this.onOverflow = onOverflow;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Starts delivering queued and future messages to the listener.
+         */
+        public void resume() {
+            paused = false;
+            scheduleDrain();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            queue.clear();
+            subscriptionsByRoom.computeIfPresent(chatRoomId, (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+
+        private void offer(ChatMessageResponse message) {
+            if (cancelled) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                log.debug("Chat room {} subscriber fell {} messages behind, dropping it", chatRoomId, queue.size());
+                cancel();
+                onOverflow.run();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // At most one drain runs per subscription, which keeps its messages in order
+        private void scheduleDrain() {
+            if (!paused && !cancelled && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    log.debug("Chat delivery rejected for room {}: {}", chatRoomId, e.getMessage());
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                ChatMessageResponse message;
+                while (!cancelled && (message = queue.poll()) != null) {
+                    try {
+                        listener.accept(message);
+                    } catch (Exception e) {
+                        log.warn("Chat room {} listener failed for message {}", chatRoomId, message.getId(), e);
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // A message offered after the last poll but before the flag was cleared
+            scheduleDrain();
+        }
+    }
+}
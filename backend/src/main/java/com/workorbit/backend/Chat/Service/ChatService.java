@@ -59,6 +59,34 @@ public interface ChatService {
      * @return list of new chat messages
      */
     List<ChatMessageResponse> getNewMessages(Long chatRoomId, LocalDateTime since, Long userId, String userType);
+
+    /**
+     * Retrieves a page of a chat room's messages by message id cursor. With
+     * {@code before} (or neither cursor) it pages back from the newest message,
+     * newest first; with {@code after} it pages forward, oldest first.
+     * 
+     * @param chatRoomId the ID of the chat room
+     * @param before only messages with a smaller ID, or null
+     * @param after only messages with a larger ID, or null
+     * @param limit the maximum number of messages to return
+     * @param userId the ID of the requesting user
+     * @param userType the type of user (CLIENT or FREELANCER)
+     * @return the messages and the cursor for the next page
+     */
+    ChatHistoryResponse getChatHistory(Long chatRoomId, Long before, Long after, int limit, Long userId, String userType);
+
+    /**
+     * Retrieves the messages posted after a given message, oldest first. Unlike
+     * {@link #getNewMessages}, messages sharing a timestamp are never skipped or
+     * returned twice.
+     * 
+     * @param chatRoomId the ID of the chat room
+     * @param afterId the ID of the last message the caller has
+     * @param userId the ID of the requesting user
+     * @param userType the type of user (CLIENT or FREELANCER)
+     * @return list of new chat messages
+     */
+    List<ChatMessageResponse> getMessagesAfter(Long chatRoomId, Long afterId, Long userId, String userType);
     
     /**
      * Marks all unread messages in a chat room as read for the specified user.
@@ -66,7 +94,7 @@ public interface ChatService {
      * @param chatRoomId the ID of the chat room
      * @param userId the ID of the user
      * @param userType the type of user (CLIENT or FREELANCER)
-     * @return the number of messages marked as read
+     * @return the number of messages that were unread before the call
      */
     int markMessagesAsRead(Long chatRoomId, Long userId, String userType);
     
@@ -122,6 +150,18 @@ public interface ChatService {
      * @param messageType the type of message (SYSTEM_NOTIFICATION, MILESTONE_UPDATE, etc.)
      */
     void sendSystemNotification(Long chatRoomId, String notification, ChatMessage.MessageType messageType);
+
+    /**
+     * Sends the same system notification to many chat rooms at once, with one
+     * batched insert and one room update instead of a round trip per room.
+     * Joins the caller's transaction; messages are pushed once it commits.
+     *
+     * @param chatRoomIds the IDs of the chat rooms
+     * @param notification the notification message
+     * @param sentAt the timestamp to give the messages
+     * @return the number of messages sent
+     */
+    int sendSystemNotifications(List<Long> chatRoomIds, String notification, LocalDateTime sentAt);
     
     /**
      * Sends a system notification to a bid negotiation chat room.
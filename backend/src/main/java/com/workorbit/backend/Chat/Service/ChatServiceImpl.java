@@ -1,18 +1,30 @@
 package com.workorbit.backend.Chat.Service;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.workorbit.backend.Chat.DTO.BidDetailsResponse;
+import com.workorbit.backend.Chat.DTO.ChatHistoryResponse;
 import com.workorbit.backend.Chat.DTO.ChatMessageRequest;
 import com.workorbit.backend.Chat.DTO.ChatMessageResponse;
 import com.workorbit.backend.Chat.DTO.ChatRoomResponse;
@@ -49,6 +61,18 @@ public class ChatServiceImpl implements ChatService {
     private final ContractRepository contractRepository;
     private final ClientRepository clientRepository;
     private final FreelancerRepository freelancerRepository;
+    private final ChatMessagePublisher chatMessagePublisher;
+    private final SenderNameCache senderNameCache;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatMessageArchiver chatMessageArchiver;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int MAX_HISTORY_LIMIT = 100;
+
+    private static final String INSERT_SYSTEM_MESSAGE_SQL = "INSERT INTO chat_messages "
+            + "(chat_room_id, sender_type, sender_id, content, message_type, is_read, created_at) "
+            + "VALUES (?, 'SYSTEM', NULL, ?, 'SYSTEM_NOTIFICATION', false, ?)";
 
     @Transactional
     @Override
@@ -131,8 +155,9 @@ public class ChatServiceImpl implements ChatService {
         log.info("Sending message to chat room: {} from user: {} ({})",
                 request.getChatRoomId(), userId, userType);
 
-        // Validate chat room access
-        ChatRoom chatRoom = findChatRoomById(request.getChatRoomId(), userId, userType);
+        // Validate chat room access; the room itself isn't needed, so it isn't loaded
+        ChatRoomAccessCache.Membership membership = checkChatRoomAccess(request.getChatRoomId(), userId, userType);
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(request.getChatRoomId());
 
         // Create and save message
         ChatMessage message = new ChatMessage();
@@ -141,17 +166,27 @@ public class ChatServiceImpl implements ChatService {
         message.setSenderId(userId);
         message.setContent(request.getContent());
         message.setMessageType(request.getMessageType());
-        message.setRead(false);
 
+        if (chatMessageWriteBehind.isEnabled()) {
+            // Acknowledged once logged; inserted, counted and pushed by the next flush
+            message.setCreatedAt(ChatMessageWriteBehind.now());
+            cacheParticipantNames(chatRoom.getId(), membership.clientId(), membership.freelancerId());
+            return chatMessageWriteBehind.enqueue(message, mapToMessageResponse(message, false));
+        }
+
+        // Before the insert, so the message gets its id after every earlier message in the room has committed
+        chatRoomRepository.lockForNewMessages(List.of(chatRoom.getId()));
         ChatMessage savedMessage = chatMessageRepository.save(message);
         log.info("Message saved with ID: {}", savedMessage.getId());
+        cacheParticipantNames(chatRoom.getId(), membership.clientId(), membership.freelancerId());
 
-        // Update chat room's updated timestamp
-        chatRoom.setUpdatedAt(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        // Move the room's last message pointer and the other party's unread count
+        recordMessage(savedMessage);
 
-        // Real-time message delivery will be handled by polling mechanism
-        return mapToMessageResponse(savedMessage);
+        // Pushed as unread (nobody has read it yet) once committed; polling remains as a fallback
+        ChatMessageResponse response = mapToMessageResponse(savedMessage, false);
+        chatMessagePublisher.publish(response);
+        return response;
     }
 
     @Override
@@ -160,10 +195,16 @@ public class ChatServiceImpl implements ChatService {
         log.info("Retrieving chat history for room: {} by user: {} ({})", chatRoomId, userId, userType);
 
         // Validate chat room access
-        findChatRoomById(chatRoomId, userId, userType);
+        ChatRoom chatRoom = findChatRoomById(chatRoomId, userId, userType);
 
         Page<ChatMessage> messages = chatMessageRepository.findByChatRoom_IdOrderByCreatedAtDesc(chatRoomId, pageable);
+        if (chatRoom.getArchivedUpToMessageId() != null) {
+            messages = withArchivedMessages(chatRoom, messages, pageable);
+        }
         log.info("Retrieved {} messages for chat room: {}", messages.getContent().size(), chatRoomId);
+        if (messages.hasContent()) {
+            cacheParticipantNames(chatRoom);
+        }
 
         return messages.map(this::mapToMessageResponse);
     }
@@ -176,14 +217,94 @@ public class ChatServiceImpl implements ChatService {
                 since, chatRoomId, userId, userType);
 
         // Validate chat room access
-        findChatRoomById(chatRoomId, userId, userType);
+        checkChatRoomAccess(chatRoomId, userId, userType);
 
         // Get messages created after the specified timestamp
         List<ChatMessage> newMessages = chatMessageRepository
                 .findByChatRoom_IdAndCreatedAtAfterOrderByCreatedAtAsc(chatRoomId, since);
+        if (newMessages.isEmpty()) {
+            // Archived messages are older than the room's last message, which is live
+            return List.of();
+        }
+        ChatRoom chatRoom = findChatRoom(chatRoomId);
+        if (chatRoom.getArchivedUpToMessageId() != null) {
+            List<ChatMessage> archived = chatMessageArchiver.loadSince(chatRoom, since);
+            if (!archived.isEmpty()) {
+                archived.addAll(newMessages);
+                newMessages = archived;
+            }
+        }
 
         log.info("Retrieved {} new messages for chat room: {} since {}",
                 newMessages.size(), chatRoomId, since);
+        if (!newMessages.isEmpty()) {
+            cacheParticipantNames(chatRoom);
+        }
+
+        return newMessages.stream()
+                .map(this::mapToMessageResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChatHistoryResponse getChatHistory(Long chatRoomId, Long before, Long after, int limit, Long userId,
+            String userType) {
+        log.info("Retrieving chat history for room: {} before: {} after: {} by user: {} ({})",
+                chatRoomId, before, after, userId, userType);
+
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("Only one of before and after can be given");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+
+        // Validate chat room access
+        ChatRoom chatRoom = findChatRoomById(chatRoomId, userId, userType);
+
+        // One extra row tells whether there is another page, without a count query
+        List<ChatMessage> messages = after != null
+                ? findMessagesAfter(chatRoom, after, pageSize + 1)
+                : findMessagesBefore(chatRoom, before, pageSize + 1);
+
+        boolean hasMore = messages.size() > pageSize;
+        if (hasMore) {
+            messages = messages.subList(0, pageSize);
+        }
+        if (!messages.isEmpty()) {
+            cacheParticipantNames(chatRoom);
+        }
+        log.info("Retrieved {} messages for chat room: {}", messages.size(), chatRoomId);
+
+        Long nextCursor = hasMore ? messages.get(messages.size() - 1).getId() : null;
+        return new ChatHistoryResponse(
+                messages.stream().map(this::mapToMessageResponse).collect(Collectors.toList()),
+                nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesAfter(Long chatRoomId, Long afterId, Long userId, String userType) {
+        log.info("Retrieving messages after {} for room: {} by user: {} ({})", afterId, chatRoomId, userId, userType);
+
+        // Validate chat room access
+        checkChatRoomAccess(chatRoomId, userId, userType);
+
+        // Most polls find nothing; only load the room when there are messages to map
+        List<ChatMessage> newMessages = chatMessageRepository
+                .findByChatRoom_IdAndIdGreaterThanOrderByIdAsc(chatRoomId, afterId, Limit.unlimited());
+        if (newMessages.isEmpty()) {
+            // Archived messages are older than the room's last message, which is live
+            return List.of();
+        }
+        ChatRoom chatRoom = findChatRoom(chatRoomId);
+        Long archivedUpTo = chatRoom.getArchivedUpToMessageId();
+        if (archivedUpTo != null && afterId < archivedUpTo) {
+            newMessages = findMessagesAfter(chatRoom, afterId, Integer.MAX_VALUE);
+        }
+        log.info("Retrieved {} new messages for chat room: {} after {}", newMessages.size(), chatRoomId, afterId);
+        if (!newMessages.isEmpty()) {
+            cacheParticipantNames(chatRoom);
+        }
 
         return newMessages.stream()
                 .map(this::mapToMessageResponse)
@@ -196,9 +317,17 @@ public class ChatServiceImpl implements ChatService {
         log.info("Marking messages as read for chat room: {} by user: {} ({})", chatRoomId, userId, userType);
 
         // Validate chat room access
-        findChatRoomById(chatRoomId, userId, userType);
+        ChatRoom chatRoom = findChatRoomById(chatRoomId, userId, userType);
 
-        int markedCount = chatMessageRepository.markMessagesAsReadForUser(chatRoomId, userType);
+        // Reading moves the caller's watermark to the latest message; no message rows are touched
+        int markedCount;
+        if ("CLIENT".equals(userType)) {
+            markedCount = chatRoom.getClientUnreadCount();
+            chatRoomRepository.markReadByClient(chatRoomId);
+        } else {
+            markedCount = chatRoom.getFreelancerUnreadCount();
+            chatRoomRepository.markReadByFreelancer(chatRoomId);
+        }
         log.info("Marked {} messages as read in chat room: {}", markedCount, chatRoomId);
 
         return markedCount;
@@ -209,11 +338,11 @@ public class ChatServiceImpl implements ChatService {
     public List<ChatRoomResponse> getUserChatRooms(Long userId, String userType) {
         log.info("Retrieving chat rooms for user: {} ({})", userId, userType);
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findUserChatRooms(userId, userType);
+        List<ChatRoomRepository.ChatRoomListView> chatRooms = chatRoomRepository.findUserChatRoomViews(userId, userType);
         log.info("Found {} chat rooms for user: {}", chatRooms.size(), userId);
 
         return chatRooms.stream()
-                .map(chatRoom -> mapToChatRoomResponse(chatRoom, userId, userType))
+                .map(chatRoom -> mapToChatRoomResponse(chatRoom, userType))
                 .collect(Collectors.toList());
     }
 
@@ -222,11 +351,11 @@ public class ChatServiceImpl implements ChatService {
     public List<ChatRoomResponse> getActiveChatRooms(Long userId, String userType) {
         log.info("Retrieving active chat rooms for user: {} ({})", userId, userType);
 
-        List<ChatRoom> activeChatRooms = chatRoomRepository.findActiveChatRoomsForUser(userId, userType);
+        List<ChatRoomRepository.ChatRoomListView> activeChatRooms = chatRoomRepository.findActiveChatRoomViews(userId, userType);
         log.info("Found {} active chat rooms for user: {}", activeChatRooms.size(), userId);
 
         return activeChatRooms.stream()
-                .map(chatRoom -> mapToChatRoomResponse(chatRoom, userId, userType))
+                .map(chatRoom -> mapToChatRoomResponse(chatRoom, userType))
                 .collect(Collectors.toList());
     }
 
@@ -235,23 +364,36 @@ public class ChatServiceImpl implements ChatService {
     public ChatRoom findChatRoomById(Long chatRoomId, Long userId, String userType) {
         log.debug("Finding chat room: {} for user: {} ({})", chatRoomId, userId, userType);
 
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new RuntimeException("Chat room not found with ID: " + chatRoomId));
+        ChatRoom chatRoom = findChatRoom(chatRoomId);
 
         // Validate user access to the chat room
-        boolean hasAccess = false;
-        if ("CLIENT".equals(userType) && chatRoom.getClient().getId().equals(userId)) {
-            hasAccess = true;
-        } else if ("FREELANCER".equals(userType) && chatRoom.getFreelancer().getId().equals(userId)) {
-            hasAccess = true;
+        ChatRoomAccessCache.Membership membership = chatRoomAccessCache.get(chatRoomId)
+                .orElseGet(() -> chatRoomAccessCache.put(chatRoom));
+        if (!membership.isParticipant(userId, userType)) {
+            log.error("User: {} ({}) does not have access to chat room: {}", userId, userType, chatRoomId);
+            throw new RuntimeException("Access denied to chat room");
         }
 
-        if (!hasAccess) {
+        return chatRoom;
+    }
+
+    /**
+     * Checks that the user is a participant of the room, from the access cache
+     * when the room is in it, without loading the room.
+     */
+    private ChatRoomAccessCache.Membership checkChatRoomAccess(Long chatRoomId, Long userId, String userType) {
+        ChatRoomAccessCache.Membership membership = chatRoomAccessCache.get(chatRoomId)
+                .orElseGet(() -> chatRoomAccessCache.put(findChatRoom(chatRoomId)));
+        if (!membership.isParticipant(userId, userType)) {
             log.error("User: {} ({}) does not have access to chat room: {}", userId, userType, chatRoomId);
             throw new RuntimeException("Access denied to chat room");
         }
+        return membership;
+    }
 
-        return chatRoom;
+    private ChatRoom findChatRoom(Long chatRoomId) {
+        return chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new RuntimeException("Chat room not found with ID: " + chatRoomId));
     }
 
     @Override
@@ -285,16 +427,58 @@ public class ChatServiceImpl implements ChatService {
         systemMessage.setSenderId(null);
         systemMessage.setContent(notification);
         systemMessage.setMessageType(messageType);
-        systemMessage.setRead(false);
 
+        chatRoomRepository.lockForNewMessages(List.of(chatRoomId));
         ChatMessage savedMessage = chatMessageRepository.save(systemMessage);
         log.info("System notification saved with ID: {} and type: {}", savedMessage.getId(), messageType);
 
-        // Update chat room's updated timestamp
-        chatRoom.setUpdatedAt(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        recordMessage(savedMessage);
+
+        chatMessagePublisher.publish(mapToMessageResponse(savedMessage));
+    }
 
-        // System notifications will be delivered through polling mechanism
+    @Override
+    @Transactional
+    public int sendSystemNotifications(List<Long> chatRoomIds, String notification, LocalDateTime sentAt) {
+        if (chatRoomIds.isEmpty()) {
+            return 0;
+        }
+        log.info("Sending system notification to {} chat rooms", chatRoomIds.size());
+
+        chatRoomRepository.lockForNewMessages(chatRoomIds);
+        KeyHolder keys = new GeneratedKeyHolder();
+        Timestamp createdAt = Timestamp.valueOf(sentAt);
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SYSTEM_MESSAGE_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        statement.setLong(1, chatRoomIds.get(i));
+                        statement.setString(2, notification);
+                        statement.setTimestamp(3, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chatRoomIds.size();
+                    }
+                }, keys);
+        chatRoomRepository.recordSystemMessages(chatRoomIds, sentAt);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            // Built directly: a new system message is unread and needs no room or sender lookup
+            ChatMessageResponse response = new ChatMessageResponse();
+            response.setId(((Number) keyList.get(i).values().iterator().next()).longValue());
+            response.setChatRoomId(chatRoomIds.get(i));
+            response.setSenderType(ChatMessage.SenderType.SYSTEM);
+            response.setSenderName("System");
+            response.setContent(notification);
+            response.setMessageType(ChatMessage.MessageType.SYSTEM_NOTIFICATION);
+            response.setCreatedAt(sentAt);
+            chatMessagePublisher.publish(response);
+        }
+        return chatRoomIds.size();
     }
 
     @Override
@@ -338,6 +522,7 @@ public class ChatServiceImpl implements ChatService {
         bidChatRoom.setStatus(ChatRoom.ChatStatus.ACTIVE); // Ensure status is active
 
         ChatRoom updatedChatRoom = chatRoomRepository.save(bidChatRoom);
+        chatRoomAccessCache.evict(updatedChatRoom.getId());
 
         // Send transition notification to chat
         sendSystemNotification(updatedChatRoom.getId(),
@@ -360,6 +545,7 @@ public class ChatServiceImpl implements ChatService {
         // Mark bid chat as closed
         bidChatRoom.setStatus(ChatRoom.ChatStatus.CLOSED);
         chatRoomRepository.save(bidChatRoom);
+        chatRoomAccessCache.evict(bidChatRoom.getId());
 
         // Send closure notification to chat
         sendSystemNotification(bidChatRoom.getId(),
@@ -457,10 +643,70 @@ public class ChatServiceImpl implements ChatService {
                 .build();
     }
 
+    /**
+     * Messages with an id above {@code afterId}, oldest first, reading the room's
+     * archive first when the cursor reaches back into it.
+     */
+    private List<ChatMessage> findMessagesAfter(ChatRoom chatRoom, Long afterId, int limit) {
+        List<ChatMessage> messages = new ArrayList<>();
+        Long archivedUpTo = chatRoom.getArchivedUpToMessageId();
+        if (archivedUpTo != null && afterId < archivedUpTo) {
+            messages.addAll(chatMessageArchiver.loadAfter(chatRoom, afterId, limit));
+        }
+        if (messages.size() < limit) {
+            Limit remaining = limit == Integer.MAX_VALUE ? Limit.unlimited() : Limit.of(limit - messages.size());
+            messages.addAll(chatMessageRepository
+                    .findByChatRoom_IdAndIdGreaterThanOrderByIdAsc(chatRoom.getId(), afterId, remaining));
+        }
+        return messages;
+    }
+
+    /**
+     * Messages with an id below {@code beforeId} (the latest ones when null), newest
+     * first, continuing into the room's archive once the live messages run out.
+     */
+    private List<ChatMessage> findMessagesBefore(ChatRoom chatRoom, Long beforeId, int limit) {
+        List<ChatMessage> messages = new ArrayList<>(beforeId != null
+                ? chatMessageRepository.findByChatRoom_IdAndIdLessThanOrderByIdDesc(chatRoom.getId(), beforeId,
+                        Limit.of(limit))
+                : chatMessageRepository.findByChatRoom_IdOrderByIdDesc(chatRoom.getId(), Limit.of(limit)));
+        // Archived messages are all older than the live ones
+        if (messages.size() < limit && chatRoom.getArchivedUpToMessageId() != null) {
+            messages.addAll(chatMessageArchiver.loadBefore(chatRoom, beforeId, limit - messages.size()));
+        }
+        return messages;
+    }
+
+    /**
+     * Extends a page of live messages with archived ones once it runs past the
+     * live messages, counting both in the total.
+     */
+    private Page<ChatMessage> withArchivedMessages(ChatRoom chatRoom, Page<ChatMessage> live, Pageable pageable) {
+        long liveTotal = live.getTotalElements();
+        long total = liveTotal + chatMessageArchiver.countArchived(chatRoom.getId());
+        List<ChatMessage> content = new ArrayList<>(live.getContent());
+
+        if (pageable.isUnpaged()) {
+            content.addAll(chatMessageArchiver.loadBefore(chatRoom, null, Integer.MAX_VALUE));
+        } else if (content.size() < pageable.getPageSize()) {
+            int skip = (int) Math.max(0, pageable.getOffset() - liveTotal);
+            List<ChatMessage> archived = chatMessageArchiver.loadBefore(chatRoom, null,
+                    skip + pageable.getPageSize() - content.size());
+            content.addAll(archived.subList(Math.min(skip, archived.size()), archived.size()));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
     /**
      * Maps ChatMessage entity to ChatMessageResponse DTO.
      */
     private ChatMessageResponse mapToMessageResponse(ChatMessage message) {
+        ChatRoom chatRoom = message.getChatRoom();
+        return mapToMessageResponse(message, isReadByRecipient(message.getId(), message.getSenderType(),
+                chatRoom.getClientLastReadMessageId(), chatRoom.getFreelancerLastReadMessageId()));
+    }
+
+    private ChatMessageResponse mapToMessageResponse(ChatMessage message, boolean read) {
         ChatMessageResponse response = new ChatMessageResponse();
         response.setId(message.getId());
         response.setChatRoomId(message.getChatRoom().getId());
@@ -469,58 +715,123 @@ public class ChatServiceImpl implements ChatService {
         response.setSenderName(getSenderName(message));
         response.setContent(message.getContent());
         response.setMessageType(message.getMessageType());
-        response.setRead(message.isRead());
+        response.setRead(read);
         response.setCreatedAt(message.getCreatedAt());
 
         return response;
     }
 
     /**
-     * Maps ChatRoom entity to ChatRoomResponse DTO.
+     * Maps a room list row to ChatRoomResponse DTO. The last message's sender is
+     * always one of the room's parties (or the system), so its name comes from the
+     * row rather than another lookup.
      */
-    private ChatRoomResponse mapToChatRoomResponse(ChatRoom chatRoom, Long currentUserId, String currentUserType) {
+    private ChatRoomResponse mapToChatRoomResponse(ChatRoomRepository.ChatRoomListView row, String currentUserType) {
         ChatRoomResponse response = new ChatRoomResponse();
-        response.setId(chatRoom.getId());
-        response.setChatType(chatRoom.getChatType());
-        response.setReferenceId(chatRoom.getReferenceId());
-        response.setStatus(chatRoom.getStatus());
-        response.setCreatedAt(chatRoom.getCreatedAt());
-        response.setUpdatedAt(chatRoom.getUpdatedAt());
+        response.setId(row.getId());
+        response.setChatType(row.getChatType());
+        response.setReferenceId(row.getReferenceId());
+        response.setStatus(row.getStatus());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+
+        // The row already carries both names; keep them for message mapping
+        senderNameCache.put(ChatMessage.SenderType.CLIENT, row.getClientId(), row.getClientName());
+        senderNameCache.put(ChatMessage.SenderType.FREELANCER, row.getFreelancerId(), row.getFreelancerName());
 
         // Set other party information
         ChatRoomResponse.OtherParty otherParty = new ChatRoomResponse.OtherParty();
         if ("CLIENT".equals(currentUserType)) {
-            otherParty.setId(chatRoom.getFreelancer().getId());
-            otherParty.setName(chatRoom.getFreelancer().getName());
+            otherParty.setId(row.getFreelancerId());
+            otherParty.setName(row.getFreelancerName());
             otherParty.setType("FREELANCER");
         } else {
-            otherParty.setId(chatRoom.getClient().getId());
-            otherParty.setName(chatRoom.getClient().getName());
+            otherParty.setId(row.getClientId());
+            otherParty.setName(row.getClientName());
             otherParty.setType("CLIENT");
         }
         response.setOtherParty(otherParty);
 
-        // Get last message
-        ChatMessage lastMessage = chatMessageRepository.findLatestMessageInChatRoom(chatRoom.getId());
-        if (lastMessage != null) {
-            response.setLastMessage(mapToMessageResponse(lastMessage));
+        if (row.getLastMessageId() != null) {
+            ChatMessageResponse lastMessage = new ChatMessageResponse();
+            lastMessage.setId(row.getLastMessageId());
+            lastMessage.setChatRoomId(row.getId());
+            lastMessage.setSenderType(row.getLastMessageSenderType());
+            lastMessage.setSenderId(row.getLastMessageSenderId());
+            lastMessage.setSenderName(getSenderName(row));
+            lastMessage.setContent(row.getLastMessageContent());
+            lastMessage.setMessageType(row.getLastMessageType());
+            lastMessage.setRead(isReadByRecipient(row.getLastMessageId(), row.getLastMessageSenderType(),
+                    row.getClientLastReadMessageId(), row.getFreelancerLastReadMessageId()));
+            lastMessage.setCreatedAt(row.getLastMessageCreatedAt());
+            response.setLastMessage(lastMessage);
         }
 
-        // Get unread count
-        Long unreadCount = chatMessageRepository.countUnreadMessagesForUser(chatRoom.getId(), currentUserType);
-        response.setUnreadCount(unreadCount);
+        response.setUnreadCount(row.getUnreadCount());
 
         return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ChatRoomResponse getChatRoomResponse(ChatRoom chatRoom, Long userId, String userType) {
         log.debug("Converting ChatRoom {} to response for user: {} ({})", chatRoom.getId(), userId, userType);
-        return mapToChatRoomResponse(chatRoom, userId, userType);
+        return chatRoomRepository.findChatRoomView(chatRoom.getId(), userType)
+                .map(row -> mapToChatRoomResponse(row, userType))
+                .orElseThrow(() -> new RuntimeException("Chat room not found with ID: " + chatRoom.getId()));
+    }
+
+    private void recordMessage(ChatMessage message) {
+        ChatMessage.SenderType senderType = message.getSenderType();
+        chatRoomRepository.recordMessages(message.getChatRoom().getId(), message.getId(),
+                senderType == ChatMessage.SenderType.CLIENT ? 0 : 1,
+                senderType == ChatMessage.SenderType.FREELANCER ? 0 : 1,
+                LocalDateTime.now());
+    }
+
+    /**
+     * A message is read once the recipient's watermark has reached it. System
+     * messages go to both parties and count as read when either has seen them.
+     */
+    private static boolean isReadByRecipient(Long messageId, ChatMessage.SenderType senderType,
+            Long clientLastReadMessageId, Long freelancerLastReadMessageId) {
+        if (messageId == null) {
+            // Accepted in write-behind mode and not stored yet
+            return false;
+        }
+        boolean readByClient = clientLastReadMessageId != null && clientLastReadMessageId >= messageId;
+        boolean readByFreelancer = freelancerLastReadMessageId != null && freelancerLastReadMessageId >= messageId;
+        return switch (senderType) {
+            case CLIENT -> readByFreelancer;
+            case FREELANCER -> readByClient;
+            default -> readByClient || readByFreelancer;
+        };
     }
 
     /**
-     * Gets the sender name for a chat message.
+     * Puts both participants' names in the sender name cache with a single query,
+     * unless they are already there. Messages in a room are sent by its two
+     * participants, so this resolves the senders of a whole page at once.
+     */
+    private void cacheParticipantNames(ChatRoom chatRoom) {
+        // getId() on the lazy associations doesn't load them
+        cacheParticipantNames(chatRoom.getId(), chatRoom.getClient().getId(), chatRoom.getFreelancer().getId());
+    }
+
+    private void cacheParticipantNames(Long chatRoomId, Long clientId, Long freelancerId) {
+        if (senderNameCache.get(ChatMessage.SenderType.CLIENT, clientId).isPresent()
+                && senderNameCache.get(ChatMessage.SenderType.FREELANCER, freelancerId).isPresent()) {
+            return;
+        }
+
+        for (Object[] row : chatRoomRepository.findParticipantNames(chatRoomId)) {
+            senderNameCache.put(ChatMessage.SenderType.CLIENT, (Long) row[0], (String) row[1]);
+            senderNameCache.put(ChatMessage.SenderType.FREELANCER, (Long) row[2], (String) row[3]);
+        }
+    }
+
+    /**
+     * Gets the sender name for a chat message, from the cache when possible.
      */
     private String getSenderName(ChatMessage message) {
         if (message.getSenderType() == ChatMessage.SenderType.SYSTEM) {
@@ -531,13 +842,26 @@ public class ChatServiceImpl implements ChatService {
             return "Unknown";
         }
 
+        Optional<String> cachedName = senderNameCache.get(message.getSenderType(), message.getSenderId());
+        if (cachedName.isPresent()) {
+            return cachedName.get();
+        }
+
         try {
             if (message.getSenderType() == ChatMessage.SenderType.CLIENT) {
                 Client client = clientRepository.findById(message.getSenderId()).orElse(null);
-                return client != null ? client.getName() : "Unknown Client";
+                if (client == null) {
+                    return "Unknown Client";
+                }
+                senderNameCache.put(ChatMessage.SenderType.CLIENT, client.getId(), client.getName());
+                return client.getName();
             } else if (message.getSenderType() == ChatMessage.SenderType.FREELANCER) {
                 Freelancer freelancer = freelancerRepository.findById(message.getSenderId()).orElse(null);
-                return freelancer != null ? freelancer.getName() : "Unknown Freelancer";
+                if (freelancer == null) {
+                    return "Unknown Freelancer";
+                }
+                senderNameCache.put(ChatMessage.SenderType.FREELANCER, freelancer.getId(), freelancer.getName());
+                return freelancer.getName();
             }
         } catch (Exception e) {
             log.warn("Failed to get sender name for message: {}", message.getId(), e);
@@ -545,4 +869,23 @@ public class ChatServiceImpl implements ChatService {
 
         return "Unknown";
     }
+
+    /**
+     * Gets the sender name for a room's last message from the room's parties.
+     */
+    private String getSenderName(ChatRoomRepository.ChatRoomListView row) {
+        ChatMessage.SenderType senderType = row.getLastMessageSenderType();
+        if (senderType == ChatMessage.SenderType.SYSTEM) {
+            return "System";
+        }
+        if (senderType == ChatMessage.SenderType.CLIENT) {
+            return row.getLastMessageSenderId() != null && row.getLastMessageSenderId().equals(row.getClientId())
+                    ? row.getClientName() : "Unknown Client";
+        }
+        if (senderType == ChatMessage.SenderType.FREELANCER) {
+            return row.getLastMessageSenderId() != null && row.getLastMessageSenderId().equals(row.getFreelancerId())
+                    ? row.getFreelancerName() : "Unknown Freelancer";
+        }
+        return "Unknown";
+    }
 }
@@ -0,0 +1,66 @@
+package com.workorbit.backend.Chat.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+
+/**
+ * Bounded cache of client and freelancer display names used when mapping chat
+ * messages, so a history page doesn't look up its senders one message at a
+ * time. Entries expire after {@link #TTL} and the least recently used ones are
+ * dropped beyond {@link #MAX_ENTRIES}. Renames evict the entry explicitly; the
+ * TTL covers any that don't.
+ */
+@Component
+public class SenderNameCache {
+
+    static final int MAX_ENTRIES = 10_000;
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    private record Key(ChatMessage.SenderType senderType, Long senderId) {
+    }
+
+    private record Entry(String name, long expiresAtMillis) {
+    }
+
+    // Access-ordered so eviction drops the least recently used sender
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public synchronized Optional<String> get(ChatMessage.SenderType senderType, Long senderId) {
+        Key key = new Key(senderType, senderId);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.name());
+    }
+
+    public synchronized void put(ChatMessage.SenderType senderType, Long senderId, String name) {
+        if (senderId == null || name == null) {
+            return;
+        }
+        entries.put(new Key(senderType, senderId), new Entry(name, System.currentTimeMillis() + TTL.toMillis()));
+    }
+
+    public synchronized void evict(ChatMessage.SenderType senderType, Long senderId) {
+        entries.remove(new Key(senderType, senderId));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -2,11 +2,15 @@ package com.workorbit.backend.Controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.workorbit.backend.DTO.ApiResponse;
 import com.workorbit.backend.DTO.ContractResponse;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import com.workorbit.backend.Service.contract.ContractService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -83,6 +87,10 @@ public class ContractController {
 				schema = @Schema(implementation = ApiResponse.class)
 			)
 		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "304",
+			description = "Not modified - the ETag in If-None-Match (or the If-Modified-Since time) is still current"
+		),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(
 			responseCode = "404",
 			description = "Contract not found - no contract exists with the provided ID",
@@ -108,9 +116,16 @@ public class ContractController {
 			required = true,
 			example = "1"
 		)
-		@PathVariable Long id
+		@PathVariable Long id,
+		WebRequest webRequest
 	){
-		return ResponseEntity.ok(contractService.getContractById(id));
+		ResourceVersion version = contractService.getContractVersion(id).orElse(null);
+		if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+		}
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.body(contractService.getContractById(id));
 	}
 	
 	@Operation(
@@ -0,0 +1,111 @@
+package com.workorbit.backend.Controller;
+
+import com.workorbit.backend.Service.export.ExportFormat;
+import com.workorbit.backend.Service.export.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@Tag(name = "Exports", description = "Streaming table exports for analytics. Requires the X-Export-Key header.")
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // Exports are disabled unless a key is configured
+    @Value("${app.export.api-key:}")
+    private String exportApiKey;
+
+    // Streaming a large table can take minutes; only exports get this long a timeout
+    @Value("${app.export.timeout-ms:1800000}")
+    private long exportTimeoutMillis;
+
+    @Operation(
+        summary = "Export projects",
+        description = "Streams every project as NDJSON (one JSON object per line) or CSV. Memory use is constant " +
+                "regardless of the number of rows."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream"),
+        @ApiResponse(responseCode = "403", description = "Missing or invalid export key, or exports are disabled")
+    })
+    @GetMapping("/projects")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @Parameter(description = "Export key configured as app.export.api-key", required = true)
+            @RequestHeader(value = "X-Export-Key", required = false) String key,
+            @Parameter(description = "Output format: ndjson (default) or csv", example = "ndjson")
+            @RequestParam(required = false) String format,
+            HttpServletRequest request
+    ) {
+        if (!isAuthorized(key)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return stream(request, "projects", exportFormat, out -> exportService.exportProjects(exportFormat, out));
+    }
+
+    @Operation(
+        summary = "Export bids",
+        description = "Streams every bid as NDJSON (one JSON object per line) or CSV. Memory use is constant " +
+                "regardless of the number of rows."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream"),
+        @ApiResponse(responseCode = "403", description = "Missing or invalid export key, or exports are disabled")
+    })
+    @GetMapping("/bids")
+    public ResponseEntity<StreamingResponseBody> exportBids(
+            @Parameter(description = "Export key configured as app.export.api-key", required = true)
+            @RequestHeader(value = "X-Export-Key", required = false) String key,
+            @Parameter(description = "Output format: ndjson (default) or csv", example = "ndjson")
+            @RequestParam(required = false) String format,
+            HttpServletRequest request
+    ) {
+        if (!isAuthorized(key)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return stream(request, "bids", exportFormat, out -> exportService.exportBids(exportFormat, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest request, String table, ExportFormat format,
+                                                         StreamingResponseBody body) {
+        // The body is written asynchronously under this request's async timeout, which replaces the MVC default
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(exportTimeoutMillis);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + table + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    private boolean isAuthorized(String key) {
+        if (exportApiKey == null || exportApiKey.isBlank() || key == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                exportApiKey.getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8));
+    }
+}
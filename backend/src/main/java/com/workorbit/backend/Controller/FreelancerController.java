@@ -1,8 +1,13 @@
 package com.workorbit.backend.Controller;
 import com.workorbit.backend.DTO.ApiResponse;
 import com.workorbit.backend.DTO.FreelancerDTO;
+import com.workorbit.backend.DTO.FreelancerSearchRequest;
+import com.workorbit.backend.DTO.FreelancerSearchResponse;
 import com.workorbit.backend.DTO.FreelancerUpdateDTO;
+import com.workorbit.backend.DTO.ProjectRecommendationDTO;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import com.workorbit.backend.Service.freelancer.FreelancerService;
+import com.workorbit.backend.Service.project.ProjectRecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +16,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @Tag(name = "Freelancers", description = "Freelancer profile management operations including profile retrieval, updates, and deletion")
 @RestController
 @RequestMapping("/api/freelancers")
@@ -23,6 +33,60 @@ import jakarta.validation.Valid;
 public class FreelancerController {
 
     private final FreelancerService freelancerService;
+    private final ProjectRecommendationService projectRecommendationService;
+
+    @Operation(
+        summary = "Search freelancers",
+        description = "Finds freelancers by skills (all or any of them), minimum rating and recent activity, " +
+                "using cursor pagination. Pass the returned nextCursor to fetch the following page."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Freelancers retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class)
+            )
+        )
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<FreelancerSearchResponse>> searchFreelancers(
+        @Parameter(description = "Skill names (case-insensitive), comma-separated or repeated", example = "Java,Spring Boot")
+        @RequestParam(required = false) List<String> skills,
+        @Parameter(description = "Whether freelancers must have all of the skills or any of them", example = "all")
+        @RequestParam(defaultValue = "all") String match,
+        @Parameter(description = "Minimum rating (inclusive)", example = "4.0")
+        @RequestParam(required = false) Double minRating,
+        @Parameter(description = "Only freelancers who updated their profile or bid within this many days", example = "30")
+        @RequestParam(required = false) Integer activeWithinDays,
+        @Parameter(description = "Sort order: rating (default) or newest", example = "rating")
+        @RequestParam(required = false) String sortBy,
+        @Parameter(description = "Cursor returned as nextCursor by the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (1-100, default 20)", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        FreelancerSearchRequest request = FreelancerSearchRequest.builder()
+                .skills(skills)
+                .skillMatch(match)
+                .minRating(minRating)
+                .activeWithinDays(activeWithinDays)
+                .sortBy(sortBy)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(ApiResponse.success(freelancerService.searchFreelancers(request)));
+    }
 
     @Operation(
         summary = "Get freelancer profile",
@@ -37,6 +101,10 @@ public class FreelancerController {
                 schema = @Schema(implementation = ApiResponse.class)
             )
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Not modified - the ETag in If-None-Match (or the If-Modified-Since time) is still current"
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Freelancer not found with the provided ID",
@@ -57,9 +125,16 @@ public class FreelancerController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<FreelancerDTO>> getProfile(
         @Parameter(description = "Unique identifier of the freelancer", required = true, example = "1")
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(ApiResponse.success(freelancerService.getFreelancerProfile(id)));
+        ResourceVersion version = freelancerService.getFreelancerProfileVersion(id).orElse(null);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(freelancerService.getFreelancerProfile(id)));
     }
 
     @Operation(
@@ -190,4 +265,38 @@ public class FreelancerController {
         FreelancerDTO updated = freelancerService.updateFreelancerProfile(id, dto);
         return ResponseEntity.ok(ApiResponse.success(updated));
     }
+
+    @Operation(
+        summary = "Get recommended projects",
+        description = "Ranks open projects for a freelancer by their skills, the categories they have bid in and " +
+                "how close each budget is to their usual bid amount. Projects the freelancer already bid on are excluded."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Recommendations retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Freelancer not found with the provided ID",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class)
+            )
+        )
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{id}/recommended-projects")
+    public ResponseEntity<ApiResponse<List<ProjectRecommendationDTO>>> getRecommendedProjects(
+        @Parameter(description = "Unique identifier of the freelancer", required = true, example = "1")
+        @PathVariable Long id,
+        @Parameter(description = "Maximum number of projects to return (1-50, default 10)", example = "10")
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(projectRecommendationService.recommendProjects(id, limit)));
+    }
 }
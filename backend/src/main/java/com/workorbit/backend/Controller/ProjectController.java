@@ -3,6 +3,10 @@ package com.workorbit.backend.Controller;
 import com.workorbit.backend.DTO.BidResponseDTO;
 import com.workorbit.backend.DTO.ProjectCountsResponse;
 import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectFeedRequest;
+import com.workorbit.backend.DTO.ProjectFeedResponse;
+import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import com.workorbit.backend.Service.project.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,10 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Projects", description = "Project management operations including creation, retrieval, updates, and bid management")
@@ -76,7 +84,9 @@ public class ProjectController {
 
     @Operation(
         summary = "Get project counts by category",
-        description = "Retrieves the count of active projects grouped by category. Public endpoint."
+        description = "Retrieves the count of active projects grouped by category. Served from in-memory counters " +
+                "that follow project create, close and delete and are reconciled with the database every 5 minutes. " +
+                "Public endpoint."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -103,8 +113,10 @@ public class ProjectController {
     }
 
     @Operation(
-        summary = "Get all projects",
-        description = "Retrieves all projects with optional search functionality. Public endpoint."
+        summary = "Get project feed",
+        description = "Retrieves one page of projects using cursor (keyset) pagination, with optional search, " +
+                "status, category, budget range and deadline window filters. Pass the returned nextCursor " +
+                "to fetch the following page. Public endpoint."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -115,6 +127,14 @@ public class ProjectController {
                 schema = @Schema(implementation = com.workorbit.backend.DTO.ApiResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or filter values",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = com.workorbit.backend.DTO.ApiResponse.class)
+            )
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "Internal server error",
@@ -125,11 +145,48 @@ public class ProjectController {
         )
     })
     @GetMapping
-    public ResponseEntity<com.workorbit.backend.DTO.ApiResponse<List<ProjectDTO>>> getAllProjects(
-            @RequestParam(value = "q", required = false) String query
+    public ResponseEntity<com.workorbit.backend.DTO.ApiResponse<ProjectFeedResponse>> getAllProjects(
+            @Parameter(description = "Search text matched by word prefix against title, category and description; results are ranked by relevance and sortBy is ignored", example = "website")
+            @RequestParam(value = "q", required = false) String query,
+            @Parameter(description = "Project status filter", example = "OPEN")
+            @RequestParam(required = false) Project.ProjectStatus status,
+            @Parameter(description = "Category filter (case-insensitive)", example = "Web Development")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Category id filter; takes precedence over category", example = "1")
+            @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Minimum budget (inclusive)", example = "10000")
+            @RequestParam(required = false) Long minBudget,
+            @Parameter(description = "Maximum budget (inclusive)", example = "500000")
+            @RequestParam(required = false) Long maxBudget,
+            @Parameter(description = "Earliest deadline (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @Parameter(description = "Latest deadline (inclusive, ISO date-time)", example = "2025-12-31T23:59:59")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @Parameter(description = "Sort field: created, updated, budget, deadline, title or category", example = "created")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Sort direction: asc or desc", example = "desc")
+            @RequestParam(required = false) String sortDirection,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100, default 20)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
-        List<ProjectDTO> projects = projectService.getAllProjects(query);
-        return ResponseEntity.status(HttpStatus.OK).body(com.workorbit.backend.DTO.ApiResponse.success(projects));
+        ProjectFeedRequest request = ProjectFeedRequest.builder()
+                .query(query)
+                .status(status)
+                .category(category)
+                .categoryId(categoryId)
+                .minBudget(minBudget)
+                .maxBudget(maxBudget)
+                .deadlineFrom(deadlineFrom)
+                .deadlineTo(deadlineTo)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        ProjectFeedResponse feed = projectService.getProjectFeed(request);
+        return ResponseEntity.status(HttpStatus.OK).body(com.workorbit.backend.DTO.ApiResponse.success(feed));
     }
 
 
@@ -146,6 +203,10 @@ public class ProjectController {
                 schema = @Schema(implementation = com.workorbit.backend.DTO.ApiResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified - the ETag in If-None-Match (or the If-Modified-Since time) is still current"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Project not found",
@@ -170,11 +231,19 @@ public class ProjectController {
             required = true,
             example = "1"
         )
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
+        // Answer revalidation from the version columns alone, before the DTO is built
+        ResourceVersion version = projectService.getProjectVersion(id).orElse(null);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
         try {
             ProjectDTO dto = projectService.getProjectById(id);
-            return ResponseEntity.ok(com.workorbit.backend.DTO.ApiResponse.success(dto));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(com.workorbit.backend.DTO.ApiResponse.success(dto));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(com.workorbit.backend.DTO.ApiResponse.error("Project not found"));
@@ -0,0 +1,27 @@
+package com.workorbit.backend.DTO;
+
+import com.workorbit.backend.Entity.Bids;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, unmanaged view of a bid row used by the streaming export.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidExportRow {
+
+    private Long id;
+    private Long projectId;
+    private Long freelancerId;
+    private double bidAmount;
+    private long durationDays;
+    private Integer teamSize;
+    private Bids.bidStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.workorbit.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat, unmanaged view of one of a freelancer's past bids: the project it was
+ * placed on, that project's category and the amount bid.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidHistoryRow {
+
+    private Long projectId;
+    private Long categoryId;
+    private double bidAmount;
+}
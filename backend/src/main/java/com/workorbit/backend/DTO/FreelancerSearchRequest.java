@@ -0,0 +1,33 @@
+package com.workorbit.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Filters, sort and cursor for one page of freelancer search results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreelancerSearchRequest {
+
+    private List<String> skills;
+
+    // "all" (default) or "any"
+    private String skillMatch;
+
+    private Double minRating;
+
+    private Integer activeWithinDays;
+
+    private String sortBy;
+
+    private String cursor;
+
+    private Integer size;
+}
@@ -0,0 +1,28 @@
+package com.workorbit.backend.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of freelancer search results. Pass nextCursor back as the cursor parameter to fetch the following page.")
+public class FreelancerSearchResponse {
+
+    @Schema(description = "Freelancers on this page, in the requested sort order", required = true)
+    private List<FreelancerSummaryDTO> items;
+
+    @Schema(description = "Opaque cursor pointing after the last item of this page, null when there are no more pages",
+            nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "Whether another page is available after this one", example = "true", required = true)
+    private boolean hasMore;
+
+    @Schema(description = "Page size that was applied to this request", example = "20", required = true)
+    private int size;
+}
@@ -0,0 +1,31 @@
+package com.workorbit.backend.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Freelancer as listed in search results")
+public class FreelancerSummaryDTO {
+
+    @Schema(description = "Unique identifier of the freelancer", example = "7")
+    private Long id;
+
+    @Schema(description = "Full name of the freelancer", example = "John Smith")
+    private String name;
+
+    @Schema(description = "Average rating of the freelancer", example = "4.5", minimum = "0.0", maximum = "5.0")
+    private Double rating;
+
+    @Schema(description = "Skills of the freelancer", example = "[\"Java\", \"Spring Boot\"]")
+    private List<String> skills;
+
+    @Schema(description = "Timestamp when the profile was last updated", example = "2025-01-08T10:30:00")
+    private LocalDateTime updatedAt;
+}
@@ -80,4 +80,14 @@ public class ProjectDTO {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    // ✅ Constructor for JPQL projections (flat client columns)
+    public ProjectDTO(Long id, String title, String description, String category,
+                      LocalDateTime deadline, Long budget, Project.ProjectStatus status,
+                      String clientName, String clientEmail, Long clientId,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, Integer bidCount) {
+        this(id, title, description, category, deadline, budget, status,
+                clientEmail != null ? new ClientDTO(clientName, clientEmail, null) : null,
+                clientId, createdAt, updatedAt, bidCount != null ? bidCount : 0);
+    }
+}
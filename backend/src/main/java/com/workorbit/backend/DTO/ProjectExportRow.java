@@ -0,0 +1,29 @@
+package com.workorbit.backend.DTO;
+
+import com.workorbit.backend.Entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, unmanaged view of a project row used by the streaming export.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectExportRow {
+
+    private Long id;
+    private String title;
+    private String description;
+    private String category;
+    private Long categoryId;
+    private Long budget;
+    private Project.ProjectStatus status;
+    private Long clientId;
+    private LocalDateTime deadline;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
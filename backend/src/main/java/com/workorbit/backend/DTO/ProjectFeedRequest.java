@@ -0,0 +1,43 @@
+package com.workorbit.backend.DTO;
+
+import com.workorbit.backend.Entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters, sort and cursor for one page of the project feed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFeedRequest {
+
+    private String query;
+
+    private Project.ProjectStatus status;
+
+    private String category;
+
+    private Long categoryId;
+
+    private Long minBudget;
+
+    private Long maxBudget;
+
+    private LocalDateTime deadlineFrom;
+
+    private LocalDateTime deadlineTo;
+
+    private String sortBy;
+
+    private String sortDirection;
+
+    private String cursor;
+
+    private Integer size;
+}
@@ -0,0 +1,49 @@
+package com.workorbit.backend.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    description = "One page of the project feed. Pass nextCursor back as the cursor parameter to fetch the following page.",
+    example = """
+        {
+          "items": [
+            {
+              "id": 42,
+              "title": "E-commerce Website Development",
+              "category": "Web Development",
+              "budget": 500000,
+              "status": "OPEN"
+            }
+          ],
+          "nextCursor": "eyJjcmVhdGVkQXQiOiIyMDI1LTAxLTA4VDEwOjMwOjAwIiwiaWQiOiI0MiJ9",
+          "hasMore": true,
+          "size": 20
+        }
+        """
+)
+public class ProjectFeedResponse {
+
+    @Schema(description = "Projects on this page, in the requested sort order", required = true)
+    private List<ProjectDTO> items;
+
+    @Schema(
+        description = "Opaque cursor pointing after the last item of this page, null when there are no more pages",
+        example = "eyJjcmVhdGVkQXQiOiIyMDI1LTAxLTA4VDEwOjMwOjAwIiwiaWQiOiI0MiJ9",
+        nullable = true
+    )
+    private String nextCursor;
+
+    @Schema(description = "Whether another page is available after this one", example = "true", required = true)
+    private boolean hasMore;
+
+    @Schema(description = "Page size that was applied to this request", example = "20", required = true)
+    private int size;
+}
@@ -0,0 +1,20 @@
+package com.workorbit.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat, unmanaged view of a project's title, client and hired freelancer, used
+ * to label wallet entries. freelancerName is null until a bid is accepted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPartiesRow {
+
+    private Long projectId;
+    private String title;
+    private String clientName;
+    private String freelancerName;
+}
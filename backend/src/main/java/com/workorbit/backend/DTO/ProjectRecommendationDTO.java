@@ -0,0 +1,20 @@
+package com.workorbit.backend.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "An open project recommended to a freelancer, with its relevance score")
+public class ProjectRecommendationDTO {
+
+    @Schema(description = "The recommended project", required = true)
+    private ProjectDTO project;
+
+    @Schema(description = "Relevance score; higher is a better match. Only meaningful relative to other results",
+            example = "7.42", required = true)
+    private double score;
+}
@@ -13,6 +13,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @ToString
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_bids_freelancer_created", columnList = "freelancer_id, created_at"),
+        @Index(name = "idx_bids_project_status", columnList = "project_id, status")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Bids {
     @Id
@@ -0,0 +1,24 @@
+package com.workorbit.backend.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Catalogue entry for project categories. Ids are assigned explicitly so that the
+ * well-known categories keep the ids the frontend already uses.
+ */
+@Entity
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table(name = "categories")
+public class Category {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
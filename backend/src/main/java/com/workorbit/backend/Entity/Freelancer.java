@@ -15,6 +15,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
+@Table(indexes = {
+        @Index(name = "idx_freelancer_rating", columnList = "rating, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Freelancer {
 
@@ -42,7 +45,9 @@ public class Freelancer {
     @JoinTable(
             name = "freelancer_skill",
             joinColumns= @JoinColumn(name="freelancer_id", referencedColumnName="id"),
-            inverseJoinColumns= @JoinColumn(name="skill_id", referencedColumnName="id")
+            inverseJoinColumns= @JoinColumn(name="skill_id", referencedColumnName="id"),
+            // skill -> freelancers lookups for freelancer search
+            indexes = @Index(name = "idx_freelancer_skill_skill", columnList = "skill_id, freelancer_id")
     )
     private Set<Skills>freelancerSkill = new HashSet<>();
 
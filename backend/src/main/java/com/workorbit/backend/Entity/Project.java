@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,7 +19,9 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_category_status", columnList = "category_id, status")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Project {
 
@@ -38,6 +41,10 @@ public class Project {
     @Column(nullable = false)
     private String category;
 
+    // Catalogue id of the category, see CategoryDictionary
+    @Column(name = "category_id")
+    private Long categoryId;
+
     @Column(nullable = false)
     private LocalDateTime deadline;
 
@@ -63,4 +70,9 @@ public class Project {
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Bids> bids = new ArrayList<>();
+
+    // Maintained only by ProjectRepository.adjustBidCount and the repair job, never by entity updates
+    @ColumnDefault("0")
+    @Column(name = "bid_count", nullable = false, updatable = false)
+    private Integer bidCount = 0;
 }
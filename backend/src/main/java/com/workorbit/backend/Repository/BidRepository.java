@@ -1,12 +1,31 @@
 package com.workorbit.backend.Repository;
+import com.workorbit.backend.DTO.BidExportRow;
+import com.workorbit.backend.DTO.BidHistoryRow;
 import com.workorbit.backend.Entity.Bids;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BidRepository extends JpaRepository<Bids, Long> {
     List<Bids> findByProject_Id(Long projectId);
     List<Bids> findByFreelancer_Id(Long freelancerId);
     boolean existsByFreelancerIdAndProjectId(Long freelancerId, Long projectId);
+
+    // 🧭 A freelancer's bidding history for recommendations, without loading the bid entities
+    @Query("SELECT new com.workorbit.backend.DTO.BidHistoryRow(b.project.id, p.categoryId, b.bidAmount) " +
+           "FROM Bids b JOIN b.project p WHERE b.freelancer.id = :freelancerId")
+    List<BidHistoryRow> findHistoryByFreelancerId(@Param("freelancerId") Long freelancerId);
+
+    // 📤 Forward-only cursor over all bids for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.workorbit.backend.DTO.BidExportRow(b.id, b.project.id, b.freelancer.id, b.bidAmount, " +
+           "b.durationDays, b.teamSize, b.status, b.createdAt, b.updatedAt) FROM Bids b ORDER BY b.id")
+    Stream<BidExportRow> streamAllForExport();
 }
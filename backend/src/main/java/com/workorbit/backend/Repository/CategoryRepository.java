@@ -0,0 +1,26 @@
+package com.workorbit.backend.Repository;
+
+import com.workorbit.backend.Entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // 🔢 Highest assigned id, used to allocate ids for new categories
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Category c")
+    Long findMaxId();
+
+    // ➕ Plain INSERT: unlike save(), a taken id fails instead of overwriting that row
+    @Modifying
+    @Query("INSERT INTO Category (id, name) VALUES (:id, :name)")
+    void insert(@Param("id") Long id, @Param("name") String name);
+
+    // 🔍 Re-reads a name another instance may have added concurrently
+    Optional<Category> findFirstByNameIgnoreCaseOrderByIdAsc(String name);
+}
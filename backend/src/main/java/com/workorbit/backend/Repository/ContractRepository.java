@@ -1,10 +1,25 @@
 package com.workorbit.backend.Repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workorbit.backend.Entity.Contract;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract,Long>{
+
+	// 🏷️ Timestamps of the contract and the rows its response is built from, for conditional GETs
+	@Query("SELECT ct.updatedAt, p.updatedAt, c.updatedAt, b.updatedAt, f.updatedAt FROM Contract ct " +
+			"LEFT JOIN ct.project p LEFT JOIN p.client c LEFT JOIN ct.bid b LEFT JOIN b.freelancer f " +
+			"WHERE ct.contractId = :id")
+	List<Object[]> findVersionById(@Param("id") Long id);
+
+	// 💰 Client and freelancer of a contract, whose wallets are locked before it is updated
+	@Query("SELECT p.client.id, b.freelancer.id FROM Contract ct JOIN ct.project p JOIN ct.bid b " +
+			"WHERE ct.contractId = :id")
+	List<Object[]> findPartyIdsById(@Param("id") Long id);
 }
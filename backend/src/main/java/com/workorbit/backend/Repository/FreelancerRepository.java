@@ -1,9 +1,33 @@
 package com.workorbit.backend.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.workorbit.backend.Entity.Freelancer;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface FreelancerRepository extends JpaRepository<Freelancer, Long> {
+public interface FreelancerRepository extends JpaRepository<Freelancer, Long>, JpaSpecificationExecutor<Freelancer> {
+
+    // 🔎 Columns read by freelancer search, so result rows don't load the app user
+    interface FreelancerSearchView {
+        Long getId();
+        String getName();
+        Double getRating();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    // 🏷️ Last modification of a profile, for conditional GETs
+    @Query("SELECT f.updatedAt FROM Freelancer f WHERE f.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 
+    // 🧰 (freelancerId, skillName) pairs for a page of freelancers
+    @Query("SELECT f.id, s.name FROM Freelancer f JOIN f.freelancerSkill s WHERE f.id IN :ids")
+    List<Object[]> findSkillNamesByFreelancerIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,84 @@
+package com.workorbit.backend.Repository;
+
+import com.workorbit.backend.Entity.Bids;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Entity.Skills;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Composable filters for freelancer search. Skill names must already be
+ * lowercased. Each factory returns null when its argument is absent; callers
+ * drop the nulls and combine the rest with {@link Specification#allOf}.
+ */
+public final class FreelancerSpecifications {
+
+    private FreelancerSpecifications() {
+    }
+
+    /**
+     * Freelancers having every one of the given skills. Resolved as a grouped
+     * semi-join over freelancer_skill, so only the postings of the requested
+     * skills are read.
+     */
+    public static Specification<Freelancer> hasAllSkills(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Freelancer> freelancer = matching.from(Freelancer.class);
+            Join<Freelancer, Skills> skill = freelancer.join("freelancerSkill");
+            Expression<String> skillName = cb.lower(skill.get("name"));
+            matching.select(freelancer.get("id"))
+                    .where(skillName.in(skills))
+                    .groupBy(freelancer.get("id"))
+                    .having(cb.equal(cb.countDistinct(skillName), (long) skills.size()));
+            return root.get("id").in(matching);
+        };
+    }
+
+    public static Specification<Freelancer> hasAnySkill(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Freelancer> freelancer = matching.from(Freelancer.class);
+            Join<Freelancer, Skills> skill = freelancer.join("freelancerSkill");
+            matching.select(freelancer.get("id"))
+                    .where(cb.lower(skill.get("name")).in(skills));
+            return root.get("id").in(matching);
+        };
+    }
+
+    public static Specification<Freelancer> ratingAtLeast(Double minRating) {
+        if (minRating == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("rating"), minRating);
+    }
+
+    /**
+     * Freelancers who updated their profile or placed a bid since the given time.
+     */
+    public static Specification<Freelancer> activeSince(LocalDateTime since) {
+        if (since == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> recentBids = query.subquery(Long.class);
+            Root<Bids> bid = recentBids.from(Bids.class);
+            recentBids.select(bid.get("id"))
+                    .where(cb.equal(bid.get("freelancer"), root),
+                            cb.greaterThanOrEqualTo(bid.get("createdAt"), since));
+            return cb.or(cb.greaterThanOrEqualTo(root.get("updatedAt"), since), cb.exists(recentBids));
+        };
+    }
+}
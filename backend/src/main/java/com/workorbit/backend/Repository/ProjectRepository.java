@@ -1,28 +1,91 @@
 package com.workorbit.backend.Repository;
 
+import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectExportRow;
+import com.workorbit.backend.DTO.ProjectPartiesRow;
 import com.workorbit.backend.Entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
 
-    // 🔍 Search projects by title or category (case-insensitive)
-    @Query("SELECT p FROM Project p WHERE " +
-            "(:query IS NULL OR :query = '' OR " +
-            "LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            "LOWER(p.category) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Project> findProjectsWithSearch(@Param("query") String query);
+    // Client and app user are joined in the same statement; the bid count is denormalized
+    String PROJECT_VIEW_SELECT = "SELECT new com.workorbit.backend.DTO.ProjectDTO(" +
+            "p.id, p.title, p.description, p.category, p.deadline, p.budget, p.status, " +
+            "c.name, u.email, c.id, p.createdAt, p.updatedAt, p.bidCount) " +
+            "FROM Project p LEFT JOIN p.client c LEFT JOIN c.appUser u ";
 
-    // 📊 Count open projects grouped by category
-    @Query("SELECT p.category, COUNT(p) FROM Project p WHERE p.status = 'OPEN' GROUP BY p.category")
+    // 🏷️ Timestamps and counters behind a project view, for conditional GETs
+    @Query("SELECT p.updatedAt, p.bidCount, c.updatedAt FROM Project p LEFT JOIN p.client c WHERE p.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    // 🔍 Single project as a DTO, in one round trip
+    @Query(PROJECT_VIEW_SELECT + "WHERE p.id = :id")
+    Optional<ProjectDTO> findViewById(@Param("id") Long id);
+
+    // 📄 Project DTOs for a page of ids (order is not preserved)
+    @Query(PROJECT_VIEW_SELECT + "WHERE p.id IN :ids")
+    List<ProjectDTO> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 👤 All projects of a client as DTOs
+    @Query(PROJECT_VIEW_SELECT + "WHERE c.id = :clientId ORDER BY p.id")
+    List<ProjectDTO> findViewsByClientId(@Param("clientId") Long clientId);
+
+    // 🏷️ Titles, clients and accepted-bid freelancers of a set of projects, in one statement
+    @Query("SELECT new com.workorbit.backend.DTO.ProjectPartiesRow(p.id, p.title, c.name, f.name) " +
+           "FROM Project p LEFT JOIN p.client c " +
+           "LEFT JOIN Bids b ON b.project = p AND b.status = com.workorbit.backend.Entity.Bids.bidStatus.Accepted " +
+           "LEFT JOIN b.freelancer f " +
+           "WHERE p.id IN :ids")
+    List<ProjectPartiesRow> findPartiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 📚 Id-ordered batches for rebuilding the in-memory search index
+    List<Project> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 📤 Forward-only cursor over all projects for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.workorbit.backend.DTO.ProjectExportRow(p.id, p.title, p.description, p.category, " +
+           "p.categoryId, p.budget, p.status, p.client.id, p.deadline, p.createdAt, p.updatedAt) " +
+           "FROM Project p ORDER BY p.id")
+    Stream<ProjectExportRow> streamAllForExport();
+
+    // 📊 Count open projects grouped by category id
+    @Query("SELECT p.categoryId, COUNT(p) FROM Project p WHERE p.status = 'OPEN' GROUP BY p.categoryId")
     List<Object[]> countActiveProjectsByCategory();
 
-    // 📈 Total count of open projects
-    @Query("SELECT COUNT(p) FROM Project p WHERE p.status = 'OPEN'")
-    Long countTotalActiveProjects();
+    // 🏷️ Category names of projects that have no category id yet
+    @Query("SELECT DISTINCT p.category FROM Project p WHERE p.categoryId IS NULL")
+    List<String> findCategoriesWithoutCategoryId();
+
+    // ➕ Atomic in-place change of the denormalized bid count
+    @Modifying
+    @Transactional
+    @Query("UPDATE Project p SET p.bidCount = p.bidCount + :delta WHERE p.id = :projectId")
+    int adjustBidCount(@Param("projectId") Long projectId, @Param("delta") int delta);
+
+    // 🛠️ Resets drifted bid counts to the actual number of bids
+    @Modifying
+    @Transactional
+    @Query("UPDATE Project p SET p.bidCount = (SELECT COUNT(b) FROM Bids b WHERE b.project = p) " +
+           "WHERE p.bidCount <> (SELECT COUNT(b) FROM Bids b WHERE b.project = p)")
+    int repairBidCounts();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Project p SET p.categoryId = :categoryId WHERE p.categoryId IS NULL AND p.category = :category")
+    int assignCategoryId(@Param("category") String category, @Param("categoryId") Long categoryId);
 }
\ No newline at end of file
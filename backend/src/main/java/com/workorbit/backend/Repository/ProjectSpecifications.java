@@ -0,0 +1,59 @@
+package com.workorbit.backend.Repository;
+
+import com.workorbit.backend.Entity.Project;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for the project feed. Each factory returns null when its
+ * argument is absent; callers drop the nulls and combine the rest with
+ * {@link Specification#allOf}.
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> hasStatus(Project.ProjectStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Project> hasCategoryId(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId);
+    }
+
+    public static Specification<Project> budgetAtLeast(Long minBudget) {
+        if (minBudget == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budget"), minBudget);
+    }
+
+    public static Specification<Project> budgetAtMost(Long maxBudget) {
+        if (maxBudget == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("budget"), maxBudget);
+    }
+
+    public static Specification<Project> deadlineFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("deadline"), from);
+    }
+
+    public static Specification<Project> deadlineTo(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("deadline"), to);
+    }
+}
@@ -0,0 +1,36 @@
+package com.workorbit.backend.Service.bid;
+
+import com.workorbit.backend.Repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs the denormalized Project.bidCount column. Bid placement and deletion
+ * keep it current; this catches drift from paths that bypass BidServiceImpl,
+ * such as cascading deletes or manual data fixes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidCountScheduler {
+
+    private final ProjectRepository projectRepository;
+
+    @Scheduled(cron = "0 0 4 * * ?") // Run at 04:00 every day
+    public void repairBidCounts() {
+        log.info("Running scheduled task to repair project bid counts");
+
+        try {
+            int repaired = projectRepository.repairBidCounts();
+            if (repaired > 0) {
+                log.warn("Repaired bid counts of {} projects", repaired);
+            } else {
+                log.info("All project bid counts are consistent");
+            }
+        } catch (Exception e) {
+            log.error("Error during scheduled bid count repair: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import com.workorbit.backend.Repository.FreelancerRepository;
 import com.workorbit.backend.Repository.ProjectRepository;
 import com.workorbit.backend.Chat.Service.ChatService;
 import com.workorbit.backend.Service.contract.ContractService;
+import com.workorbit.backend.Service.project.ProjectCategoryCounter;
+import com.workorbit.backend.Service.project.ProjectSearchIndex;
 import com.workorbit.backend.Wallet.Service.WalletService;
 
 import lombok.RequiredArgsConstructor;
@@ -33,6 +35,8 @@ public class BidServiceImpl implements BidService {
     private final ChatService chatService;
     private final ContractService contractService;
     private final WalletService walletService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectCategoryCounter projectCategoryCounter;
 
     @Override
     @Transactional
@@ -70,6 +74,7 @@ public class BidServiceImpl implements BidService {
         bid.setCreatedAt(LocalDateTime.now());
 
         Bids savedBid = bidRepo.save(bid);
+        projectRepo.adjustBidCount(project.getId(), 1);
         log.info("Bid created with ID: {}", savedBid.getId());
 
         // Create bid negotiation chat room
@@ -124,6 +129,7 @@ public class BidServiceImpl implements BidService {
         }
 
         bidRepo.deleteById(bidId);
+        projectRepo.adjustBidCount(bid.getProject().getId(), -1);
         log.info("Bid deleted: {}", bidId);
     }
 
@@ -132,8 +138,13 @@ public class BidServiceImpl implements BidService {
     }
 
     @Override
-    @Transactional
     public Long acceptBid(Long bidId, Long clientId) {
+        // Freezes the client's funds, so the whole acceptance queues on the client's wallet lock
+        return walletService.inLockedTransaction(() -> accept(bidId, clientId),
+                walletService.walletKey(clientId, "CLIENT"));
+    }
+
+    private Long accept(Long bidId, Long clientId) {
         log.info("Accepting bid ID: {} by client ID: {}", bidId, clientId);
 
         Bids bid = bidRepo.findById(bidId)
@@ -154,8 +165,13 @@ public class BidServiceImpl implements BidService {
         }
 
         // Update project status to CLOSED
+        boolean wasOpen = project.getStatus() == Project.ProjectStatus.OPEN;
         project.setStatus(Project.ProjectStatus.CLOSED);
         projectRepo.save(project);
+        projectSearchIndex.index(project);
+        if (wasOpen) {
+            projectCategoryCounter.projectClosed(project.getCategoryId());
+        }
 
         // Update all bids for this project
         List<Bids> allBids = bidRepo.findByProject_Id(project.getId());
@@ -0,0 +1,178 @@
+package com.workorbit.backend.Service.category;
+
+import com.workorbit.backend.Entity.Category;
+import com.workorbit.backend.Repository.CategoryRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory two-way mapping between category ids and names, loaded from the
+ * category catalogue at startup. Names are matched case-insensitively; names
+ * that are not in the catalogue yet are added on first use, and lookups that
+ * miss re-read the catalogue for categories other instances have added.
+ *
+ * <p>New ids are allocated as the highest id plus one. Another instance may
+ * take the same id or add the same name first; the insert then fails on the
+ * primary key or the unique name, and is retried after re-reading the name.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+    private static final Map<Long, String> DEFAULT_CATEGORIES = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_CATEGORIES.put(1L, "Web Development");
+        DEFAULT_CATEGORIES.put(2L, "Graphic Design");
+        DEFAULT_CATEGORIES.put(3L, "Photography");
+        DEFAULT_CATEGORIES.put(4L, "Marketing");
+        DEFAULT_CATEGORIES.put(5L, "Video Editing");
+        DEFAULT_CATEGORIES.put(6L, "Content Writing");
+        DEFAULT_CATEGORIES.put(7L, "IT & Networking");
+        DEFAULT_CATEGORIES.put(8L, "Translation");
+        DEFAULT_CATEGORIES.put(9L, "SWE");
+        DEFAULT_CATEGORIES.put(10L, "AI-ML");
+        DEFAULT_CATEGORIES.put(11L, "Mobile Development");
+        DEFAULT_CATEGORIES.put(12L, "UI-UX Designer");
+    }
+
+    private static final int MAX_CREATE_ATTEMPTS = 5;
+
+    // Legacy names that have always been counted under another category
+    private static final Map<String, Long> ALIASES = Map.of(
+            "app development", 11L,
+            "data analysis", 10L
+    );
+
+    private final CategoryRepository categoryRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        List<Category> missing = DEFAULT_CATEGORIES.entrySet().stream()
+                .filter(entry -> !categoryRepository.existsById(entry.getKey()))
+                .map(entry -> new Category(entry.getKey(), entry.getValue()))
+                .toList();
+        if (!missing.isEmpty()) {
+            categoryRepository.saveAll(missing);
+            log.info("Seeded {} default categories", missing.size());
+        }
+
+        categoryRepository.findAll().forEach(this::register);
+        ALIASES.forEach(idsByName::putIfAbsent);
+        log.info("Loaded {} categories", namesById.size());
+
+        backfillProjects();
+    }
+
+    public Optional<Long> findId(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        Long id = idsByName.get(normalize(name));
+        if (id != null) {
+            return Optional.of(id);
+        }
+        // May have been added by another instance since this one loaded
+        Optional<Category> added = categoryRepository.findFirstByNameIgnoreCaseOrderByIdAsc(name.trim());
+        added.ifPresent(this::register);
+        return added.map(Category::getId);
+    }
+
+    /**
+     * Returns the id for the given name, adding it to the catalogue if needed.
+     * Blank names resolve to null.
+     */
+    public Long resolveId(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        Long id = idsByName.get(normalize(name));
+        return id != null ? id : create(name.trim());
+    }
+
+    public String nameOf(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        Optional<Category> added = categoryRepository.findById(id);
+        added.ifPresent(this::register);
+        return added.map(Category::getName).orElse(null);
+    }
+
+    private synchronized Long create(String name) {
+        Long existing = idsByName.get(normalize(name));
+        if (existing != null) {
+            return existing;
+        }
+        // Own transaction, so a lost race doesn't roll back the caller's
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int attempt = 1; ; attempt++) {
+            Optional<Category> added = categoryRepository.findFirstByNameIgnoreCaseOrderByIdAsc(name);
+            if (added.isPresent()) {
+                register(added.get());
+                return added.get().getId();
+            }
+            try {
+                Category category = transaction.execute(status -> {
+                    Long id = categoryRepository.findMaxId() + 1;
+                    categoryRepository.insert(id, name);
+                    return new Category(id, name);
+                });
+                register(category);
+                log.info("Added category '{}' with id {}", category.getName(), category.getId());
+                return category.getId();
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_CREATE_ATTEMPTS) {
+                    throw new RuntimeException("Could not add category: " + name, e);
+                }
+                log.debug("Category '{}' insert conflicted, retrying", name);
+            }
+        }
+    }
+
+    private void register(Category category) {
+        namesById.put(category.getId(), category.getName());
+        idsByName.put(normalize(category.getName()), category.getId());
+    }
+
+    // Projects created before the catalogue existed only carry the category name
+    private void backfillProjects() {
+        for (String name : projectRepository.findCategoriesWithoutCategoryId()) {
+            Long id = resolveId(name);
+            if (id != null) {
+                int updated = projectRepository.assignCategoryId(name, id);
+                log.info("Assigned category id {} to {} projects in '{}'", id, updated, name);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,88 @@
+package com.workorbit.backend.Service.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes keyset scroll positions as opaque URL-safe tokens for cursor-paged
+ * endpoints. The token carries the values of the sort field and the id of the
+ * last row on a page.
+ */
+public final class KeysetCursor {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Set<String> TIMESTAMP_FIELDS = Set.of("createdAt", "updatedAt", "deadline");
+    private static final Set<String> NUMERIC_FIELDS = Set.of("id", "budget");
+    private static final Set<String> DECIMAL_FIELDS = Set.of(RELEVANCE, "rating");
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        position.getKeys().forEach((field, value) -> keys.put(field, value != null ? value.toString() : null));
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(keys);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor produced for the given sort field, or returns the initial
+     * position when no cursor was supplied.
+     */
+    public static KeysetScrollPosition decode(String cursor, String sortField) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, String> raw;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            raw = MAPPER.readValue(new String(json, StandardCharsets.UTF_8), new TypeReference<Map<String, String>>() {});
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (!raw.keySet().equals(Set.of(sortField, "id"))) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            raw.forEach((field, value) -> keys.put(field, convert(field, value)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object convert(String field, String value) {
+        if (value == null) {
+            return null;
+        }
+        if (TIMESTAMP_FIELDS.contains(field)) {
+            return LocalDateTime.parse(value);
+        }
+        if (NUMERIC_FIELDS.contains(field)) {
+            return Long.valueOf(value);
+        }
+        if (DECIMAL_FIELDS.contains(field)) {
+            return Double.valueOf(value);
+        }
+        return value;
+    }
+}
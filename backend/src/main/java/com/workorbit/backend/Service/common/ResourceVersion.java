@@ -0,0 +1,35 @@
+package com.workorbit.backend.Service.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Validators for a conditional GET: an ETag and a Last-Modified time derived
+ * from the modification timestamps (and any other changing values) behind a
+ * response, so a request can be answered with 304 before the response is built.
+ *
+ * @param etag         quoted strong entity tag
+ * @param lastModified epoch millis of the most recent timestamp, or -1 if unknown
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * Builds a version from the given parts. Timestamps contribute to both the
+     * tag and Last-Modified; other values (e.g. counters) only to the tag.
+     */
+    public static ResourceVersion of(String resource, Object... parts) {
+        StringBuilder tag = new StringBuilder(resource);
+        long lastModified = -1;
+        for (Object part : parts) {
+            if (part instanceof LocalDateTime timestamp) {
+                long millis = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                lastModified = Math.max(lastModified, millis);
+                tag.append('-').append(Long.toHexString(millis));
+            } else {
+                tag.append('-').append(Objects.toString(part, "0"));
+            }
+        }
+        return new ResourceVersion("\"" + tag + "\"", lastModified);
+    }
+}
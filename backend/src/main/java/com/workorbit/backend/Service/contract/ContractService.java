@@ -1,15 +1,18 @@
 package com.workorbit.backend.Service.contract;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.workorbit.backend.DTO.ApiResponse;
 import com.workorbit.backend.DTO.ContractResponse;
 import com.workorbit.backend.Entity.Bids;
+import com.workorbit.backend.Service.common.ResourceVersion;
 
 public interface ContractService {
 	Long createContract(Bids bid);
 	ApiResponse<List<ContractResponse>> getAllContracts();
 	ApiResponse<ContractResponse> getContractById(Long id);
+	Optional<ResourceVersion> getContractVersion(Long id);
 	ApiResponse<ContractResponse> updateContract(Long id, String contractStatus);
 	ApiResponse<String> deleteContract(Long id);
 }
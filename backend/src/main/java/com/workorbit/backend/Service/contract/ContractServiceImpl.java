@@ -1,12 +1,14 @@
 package com.workorbit.backend.Service.contract;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.workorbit.backend.Auth.Service.EmailService;
 import com.workorbit.backend.Chat.Scheduler.ChatScheduler;
 import com.workorbit.backend.Entity.Client;
 import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Wallet.Service.WalletLockManager.WalletKey;
 import com.workorbit.backend.Wallet.Service.WalletService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import com.workorbit.backend.Entity.Bids;
 import com.workorbit.backend.Entity.Contract;
 import com.workorbit.backend.Entity.Project;
 import com.workorbit.backend.Repository.ContractRepository;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import com.workorbit.backend.Chat.Service.ChatService;
 import lombok.*;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -118,9 +121,27 @@ public class ContractServiceImpl implements ContractService {
         return ApiResponse.success(toDTO(contract));
     }
 
+    // The response also carries project, client, bid and freelancer details
+    @Override
+    public Optional<ResourceVersion> getContractVersion(Long id) {
+        return contractRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of("contract-" + id, row));
+    }
+
     @Override
-    @Transactional
     public ApiResponse<ContractResponse> updateContract(Long id, String contractUpdatePayload) {
+        // Completing the contract releases its payment, so the update queues on both parties' wallet locks
+        WalletKey[] wallets = contractRepository.findPartyIdsById(id).stream()
+                .findFirst()
+                .map(row -> new WalletKey[] {
+                        walletService.walletKey((Long) row[0], "CLIENT"),
+                        walletService.walletKey((Long) row[1], "FREELANCER") })
+                .orElseGet(() -> new WalletKey[0]);
+        return walletService.inLockedTransaction(() -> update(id, contractUpdatePayload), wallets);
+    }
+
+    private ApiResponse<ContractResponse> update(Long id, String contractUpdatePayload) {
         Contract contract = contractRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Contract not found"));
 
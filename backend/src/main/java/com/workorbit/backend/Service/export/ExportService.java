@@ -0,0 +1,11 @@
+package com.workorbit.backend.Service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    void exportProjects(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportBids(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,133 @@
+package com.workorbit.backend.Service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workorbit.backend.DTO.BidExportRow;
+import com.workorbit.backend.DTO.ProjectExportRow;
+import com.workorbit.backend.Repository.BidRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to an output stream. Rows come from forward-only
+ * repository streams of unmanaged projections, so neither the persistence
+ * context nor the response buffer grows with the table size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> PROJECT_COLUMNS = List.of(
+            "id", "title", "description", "category", "categoryId", "budget", "status",
+            "clientId", "deadline", "createdAt", "updatedAt");
+
+    private static final List<String> BID_COLUMNS = List.of(
+            "id", "projectId", "freelancerId", "bidAmount", "durationDays", "teamSize", "status",
+            "createdAt", "updatedAt");
+
+    private final ProjectRepository projectRepository;
+    private final BidRepository bidRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void exportProjects(ExportFormat format, OutputStream out) throws IOException {
+        export("projects", projectRepository::streamAllForExport, PROJECT_COLUMNS, row -> new Object[]{
+                row.getId(), row.getTitle(), row.getDescription(), row.getCategory(), row.getCategoryId(),
+                row.getBudget(), row.getStatus(), row.getClientId(), row.getDeadline(), row.getCreatedAt(),
+                row.getUpdatedAt()
+        }, format, out);
+    }
+
+    @Override
+    public void exportBids(ExportFormat format, OutputStream out) throws IOException {
+        export("bids", bidRepository::streamAllForExport, BID_COLUMNS, (BidExportRow row) -> new Object[]{
+                row.getId(), row.getProjectId(), row.getFreelancerId(), row.getBidAmount(), row.getDurationDays(),
+                row.getTeamSize(), row.getStatus(), row.getCreatedAt(), row.getUpdatedAt()
+        }, format, out);
+    }
+
+    private <T> void export(String table, Supplier<Stream<T>> query, List<String> columns,
+                            Function<T, Object[]> csvValues, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting {} as {}", table, format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.toArray());
+        }
+
+        // The stream must be consumed inside a transaction for the cursor to stay open
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Long written;
+        try {
+            written = transaction.execute(status -> {
+                long count = 0;
+                try (Stream<T> rows = query.get()) {
+                    for (Iterator<T> it = rows.iterator(); it.hasNext(); ) {
+                        T row = it.next();
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, csvValues.apply(row));
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                        if (++count % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            log.warn("Export of {} aborted: {}", table, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported {} {} rows", written, table);
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,8 +1,15 @@
 package com.workorbit.backend.Service.freelancer;
 import com.workorbit.backend.DTO.FreelancerDTO;
+import com.workorbit.backend.DTO.FreelancerSearchRequest;
+import com.workorbit.backend.DTO.FreelancerSearchResponse;
+import com.workorbit.backend.Service.common.ResourceVersion;
+
+import java.util.Optional;
 
 public interface FreelancerService {
     FreelancerDTO getFreelancerProfile(Long freelancerId);
+    Optional<ResourceVersion> getFreelancerProfileVersion(Long freelancerId);
     void deleteFreelancer(Long id);
     FreelancerDTO updateFreelancerProfile(Long id, com.workorbit.backend.DTO.FreelancerUpdateDTO dto);
+    FreelancerSearchResponse searchFreelancers(FreelancerSearchRequest request);
 }
\ No newline at end of file
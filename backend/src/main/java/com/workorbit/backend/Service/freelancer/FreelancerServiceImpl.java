@@ -1,19 +1,41 @@
 package com.workorbit.backend.Service.freelancer;
 
 import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Service.SenderNameCache;
 import com.workorbit.backend.DTO.FreelancerDTO;
+import com.workorbit.backend.DTO.FreelancerSearchRequest;
+import com.workorbit.backend.DTO.FreelancerSearchResponse;
+import com.workorbit.backend.DTO.FreelancerSummaryDTO;
 import com.workorbit.backend.DTO.PastWorkDTO;
 import com.workorbit.backend.Entity.Freelancer;
 import com.workorbit.backend.Entity.PastWork;
 import com.workorbit.backend.Entity.Skills;
 import com.workorbit.backend.Repository.FreelancerRepository;
+import com.workorbit.backend.Repository.FreelancerSpecifications;
 import com.workorbit.backend.Repository.PastWorkRepository;
 import com.workorbit.backend.Repository.SkillRepository;
+import com.workorbit.backend.Service.common.KeysetCursor;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,6 +45,10 @@ public class FreelancerServiceImpl implements FreelancerService {
     private final FreelancerRepository freelancerRepo;
     private final SkillRepository skillRepo;
     private final PastWorkRepository pastWorkRepo;
+    private final SenderNameCache senderNameCache;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Override
     public FreelancerDTO getFreelancerProfile(Long freelancerId) {
@@ -82,6 +108,7 @@ public class FreelancerServiceImpl implements FreelancerService {
     public void deleteFreelancer(Long id) {
         log.info("Deleting freelancer by ID: {}", id);
         freelancerRepo.deleteById(id);
+        senderNameCache.evict(ChatMessage.SenderType.FREELANCER, id);
         log.info("Freelancer deleted: {}", id);
     }
 
@@ -168,9 +195,93 @@ public class FreelancerServiceImpl implements FreelancerService {
             log.info("Past works re-synced.");
         }
 
+        // Skill and past work changes don't dirty the freelancer row itself, so bump it
+        // explicitly to keep profile validators (ETag / Last-Modified) in step
+        freelancer.setUpdatedAt(LocalDateTime.now());
         Freelancer saved = freelancerRepo.save(freelancer);
         log.info("Successfully saved updated profile for freelancer ID: {}", saved.getId());
+        if (dto.getName() != null) {
+            // Chat messages show the sender's current name
+            senderNameCache.evict(ChatMessage.SenderType.FREELANCER, saved.getId());
+        }
         // Reuse getFreelancerProfile to build the response
         return getFreelancerProfile(saved.getId());
     }
+
+    @Override
+    public Optional<ResourceVersion> getFreelancerProfileVersion(Long freelancerId) {
+        return freelancerRepo.findUpdatedAtById(freelancerId)
+                .map(updatedAt -> ResourceVersion.of("freelancer-" + freelancerId, updatedAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FreelancerSearchResponse searchFreelancers(FreelancerSearchRequest request) {
+        log.info("Searching freelancers: {}", request);
+
+        int size = request.getSize() == null || request.getSize() <= 0
+                ? DEFAULT_PAGE_SIZE
+                : Math.min(request.getSize(), MAX_PAGE_SIZE);
+        List<String> skills = normalizeSkills(request.getSkills());
+        boolean matchAny = "any".equalsIgnoreCase(request.getSkillMatch());
+
+        // Newest first by sign-up, otherwise best rated first; id breaks ties
+        String sortField = "newest".equalsIgnoreCase(request.getSortBy()) ? "createdAt" : "rating";
+        Sort sort = Sort.by(Sort.Direction.DESC, sortField).and(Sort.by(Sort.Direction.DESC, "id"));
+        KeysetScrollPosition position = KeysetCursor.decode(request.getCursor(), sortField);
+
+        LocalDateTime activeSince = request.getActiveWithinDays() != null && request.getActiveWithinDays() > 0
+                ? LocalDateTime.now().minusDays(request.getActiveWithinDays())
+                : null;
+
+        Specification<Freelancer> spec = Specification.allOf(Stream.of(
+                        matchAny ? FreelancerSpecifications.hasAnySkill(skills) : FreelancerSpecifications.hasAllSkills(skills),
+                        FreelancerSpecifications.ratingAtLeast(request.getMinRating()),
+                        FreelancerSpecifications.activeSince(activeSince))
+                .filter(Objects::nonNull)
+                .toList());
+
+        Window<FreelancerRepository.FreelancerSearchView> window = freelancerRepo.findBy(spec, query -> query
+                .as(FreelancerRepository.FreelancerSearchView.class)
+                .sortBy(sort)
+                .limit(size)
+                .scroll(position));
+
+        // Skills for the whole page in one query
+        Map<Long, List<String>> skillsByFreelancer = new HashMap<>();
+        List<Long> ids = window.getContent().stream().map(FreelancerRepository.FreelancerSearchView::getId).toList();
+        if (!ids.isEmpty()) {
+            for (Object[] row : freelancerRepo.findSkillNamesByFreelancerIds(ids)) {
+                skillsByFreelancer.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        List<FreelancerSummaryDTO> items = window.getContent().stream()
+                .map(f -> new FreelancerSummaryDTO(
+                        f.getId(),
+                        f.getName(),
+                        f.getRating(),
+                        skillsByFreelancer.getOrDefault(f.getId(), List.of()),
+                        f.getUpdatedAt()))
+                .toList();
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+
+        log.info("Found {} freelancers, hasMore: {}", items.size(), window.hasNext());
+        return new FreelancerSearchResponse(items, nextCursor, window.hasNext(), size);
+    }
+
+    private static List<String> normalizeSkills(List<String> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        return skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+    }
 }
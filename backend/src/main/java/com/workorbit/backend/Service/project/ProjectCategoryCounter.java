@@ -0,0 +1,120 @@
+package com.workorbit.backend.Service.project;
+
+import com.workorbit.backend.DTO.ProjectCountResponse;
+import com.workorbit.backend.DTO.ProjectCountsResponse;
+import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Service.category.CategoryDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Number of open projects per category, kept in memory for the public
+ * counts-by-category endpoint. Project write paths adjust the counts as projects
+ * are opened and closed, and a periodic reconcile replaces them with a fresh
+ * aggregate so that any drift (e.g. cascading deletes) is short-lived.
+ *
+ * <p>Writers are serialized; readers get an immutable snapshot without locking.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCategoryCounter {
+
+    private final ProjectRepository projectRepository;
+    private final CategoryDictionary categoryDictionary;
+
+    private final Map<Long, Long> openCounts = new HashMap<>();
+    private long openTotal;
+    private volatile ProjectCountsResponse snapshot = new ProjectCountsResponse(List.of(), 0L);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000) // Every 5 minutes
+    public void reconcile() {
+        List<Object[]> rows = projectRepository.countActiveProjectsByCategory();
+        synchronized (this) {
+            openCounts.clear();
+            openTotal = 0;
+            for (Object[] row : rows) {
+                Long categoryId = (Long) row[0];
+                long count = (Long) row[1];
+                if (categoryId != null) {
+                    openCounts.put(categoryId, count);
+                }
+                openTotal += count;
+            }
+            publish();
+        }
+        log.info("Reconciled open project counts: {} categories, {} projects", rows.size(), openTotal);
+    }
+
+    public ProjectCountsResponse getCounts() {
+        return snapshot;
+    }
+
+    public void projectOpened(Long categoryId) {
+        afterCommit(() -> adjust(categoryId, 1));
+    }
+
+    public void projectClosed(Long categoryId) {
+        afterCommit(() -> adjust(categoryId, -1));
+    }
+
+    /**
+     * Moves an open project from one category to another.
+     */
+    public void categoryChanged(Long from, Long to) {
+        afterCommit(() -> {
+            adjust(from, -1);
+            adjust(to, 1);
+        });
+    }
+
+    private synchronized void adjust(Long categoryId, long delta) {
+        if (categoryId != null) {
+            openCounts.compute(categoryId, (key, count) -> {
+                long updated = (count != null ? count : 0L) + delta;
+                return updated > 0 ? updated : null;
+            });
+        }
+        openTotal = Math.max(0, openTotal + delta);
+        publish();
+    }
+
+    private void publish() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectCountResponse> counts = openCounts.entrySet().stream()
+                .map(entry -> new ProjectCountResponse(
+                        categoryDictionary.nameOf(entry.getKey()), entry.getKey(), entry.getValue(), now))
+                .toList();
+        snapshot = new ProjectCountsResponse(counts, openTotal);
+    }
+
+    // Changes made inside a transaction only count once it commits
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
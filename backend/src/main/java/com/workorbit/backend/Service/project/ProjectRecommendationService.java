@@ -0,0 +1,10 @@
+package com.workorbit.backend.Service.project;
+
+import com.workorbit.backend.DTO.ProjectRecommendationDTO;
+
+import java.util.List;
+
+public interface ProjectRecommendationService {
+
+    List<ProjectRecommendationDTO> recommendProjects(Long freelancerId, Integer limit);
+}
@@ -0,0 +1,106 @@
+package com.workorbit.backend.Service.project;
+
+import com.workorbit.backend.DTO.BidHistoryRow;
+import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectRecommendationDTO;
+import com.workorbit.backend.Entity.Skills;
+import com.workorbit.backend.Repository.BidRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Recommends open projects to a freelancer from three signals: their skills
+ * (matched against project text in the search index), the categories they have
+ * bid in before, and how close a project's budget is to their usual bid amount.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectRecommendationServiceImpl implements ProjectRecommendationService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    // Affinity added to every open project in a category the freelancer always bids in
+    private static final double CATEGORY_AFFINITY_WEIGHT = 4.0;
+    // Largest boost for a budget equal to the freelancer's average bid
+    private static final double BUDGET_FIT_BONUS = 0.25;
+    // Budgets this many times above or below the average bid get no boost
+    private static final double BUDGET_FIT_RANGE = 4.0;
+
+    private final FreelancerRepository freelancerRepo;
+    private final SkillRepository skillRepo;
+    private final BidRepository bidRepo;
+    private final ProjectRepository projectRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+
+    @Override
+    public List<ProjectRecommendationDTO> recommendProjects(Long freelancerId, Integer limit) {
+        log.info("Recommending projects for freelancer ID: {}", freelancerId);
+        if (!freelancerRepo.existsById(freelancerId)) {
+            log.error("Freelancer not found with ID: {}", freelancerId);
+            throw new RuntimeException("Freelancer not found");
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        List<String> skills = skillRepo.findByFreelancers_Id(freelancerId).stream()
+                .map(Skills::getName)
+                .toList();
+        List<BidHistoryRow> bids = bidRepo.findHistoryByFreelancerId(freelancerId);
+
+        Set<Long> alreadyBid = bids.stream()
+                .map(BidHistoryRow::getProjectId)
+                .collect(Collectors.toSet());
+
+        List<ProjectSearchIndex.Hit> hits = projectSearchIndex.recommend(
+                skills, categoryAffinity(bids), budgetFit(bids), alreadyBid, size);
+
+        Map<Long, ProjectDTO> viewsById = new HashMap<>();
+        if (!hits.isEmpty()) {
+            projectRepository.findViewsByIdIn(hits.stream().map(ProjectSearchIndex.Hit::projectId).toList())
+                    .forEach(view -> viewsById.put(view.getId(), view));
+        }
+
+        List<ProjectRecommendationDTO> recommendations = hits.stream()
+                .filter(hit -> viewsById.containsKey(hit.projectId()))
+                .map(hit -> new ProjectRecommendationDTO(viewsById.get(hit.projectId()), hit.score()))
+                .toList();
+        log.info("Recommended {} projects from {} skills and {} past bids", recommendations.size(), skills.size(), bids.size());
+        return recommendations;
+    }
+
+    // Share of the freelancer's bids placed in each category
+    private static Map<Long, Double> categoryAffinity(List<BidHistoryRow> bids) {
+        Map<Long, Double> affinity = new HashMap<>();
+        for (BidHistoryRow bid : bids) {
+            Long categoryId = bid.getCategoryId();
+            if (categoryId != null) {
+                affinity.merge(categoryId, CATEGORY_AFFINITY_WEIGHT / bids.size(), Double::sum);
+            }
+        }
+        return affinity;
+    }
+
+    // Boost falls off with the log-distance between the budget and the average bid
+    private static ToDoubleFunction<ProjectSearchIndex.IndexedProject> budgetFit(List<BidHistoryRow> bids) {
+        double averageBid = bids.stream().mapToDouble(BidHistoryRow::getBidAmount).filter(amount -> amount > 0).average().orElse(0);
+        if (averageBid <= 0) {
+            return doc -> 1.0;
+        }
+        return doc -> {
+            if (doc.budget() == null || doc.budget() <= 0) {
+                return 1.0;
+            }
+            double distance = Math.abs(Math.log(doc.budget() / averageBid)) / Math.log(BUDGET_FIT_RANGE);
+            return 1.0 + BUDGET_FIT_BONUS * Math.max(0.0, 1.0 - distance);
+        };
+    }
+}
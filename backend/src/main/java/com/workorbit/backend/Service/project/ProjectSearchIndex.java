@@ -0,0 +1,374 @@
+package com.workorbit.backend.Service.project;
+
+import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.Repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory inverted index over project title, description and category.
+ * Query terms are matched as prefixes, every term must match (AND), and hits
+ * are ranked by a field-boosted tf-idf score. Open projects are also posted
+ * by category id for recommendations. The index is rebuilt from the database
+ * at startup and nightly, and kept current by the project write paths.
+ *
+ * <p>Writes made inside a transaction are applied once it commits. Writes that
+ * land while a rebuild is reading the database are recorded and replayed onto
+ * the rebuilt maps, so the rebuild doesn't lose them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float CATEGORY_BOOST = 2.0f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private Map<Long, IndexedProject> documents = new HashMap<>();
+    private Map<Long, Set<Long>> openProjectsByCategory = new HashMap<>();
+    // Latest write per project id while a rebuild runs (null value = removed), otherwise null
+    private Map<Long, Project> changedDuringRebuild;
+
+    /**
+     * Filterable attributes kept next to the postings so that feed filters can be
+     * applied to search hits without touching the database.
+     */
+    public record IndexedProject(Long id, Project.ProjectStatus status, Long categoryId, Long budget,
+                                 LocalDateTime deadline, Set<String> terms) {
+    }
+
+    public record Hit(Long projectId, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 30 3 * * ?") // Run at 03:30 every day
+    public void rebuild() {
+        log.info("Rebuilding project search index");
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TreeMap<String, Map<Long, Float>> newPostings = new TreeMap<>();
+        Map<Long, IndexedProject> newDocuments = new HashMap<>();
+        Map<Long, Set<Long>> newOpenProjectsByCategory = new HashMap<>();
+
+        int replayed;
+        try {
+            Long lastId = 0L;
+            List<Project> batch;
+            do {
+                batch = projectRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+                for (Project project : batch) {
+                    addDocument(newPostings, newDocuments, newOpenProjectsByCategory, project);
+                    lastId = project.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            openProjectsByCategory = newOpenProjectsByCategory;
+            replayed = changedDuringRebuild.size();
+            changedDuringRebuild.forEach((projectId, project) -> {
+                removeDocument(projectId);
+                if (project != null) {
+                    addDocument(postings, documents, openProjectsByCategory, project);
+                }
+            });
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} project changes made during the index rebuild", replayed);
+        }
+        log.info("Project search index rebuilt with {} projects and {} terms", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * Adds or replaces a project in the index once the current transaction commits.
+     */
+    public void index(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(project.getId());
+                addDocument(postings, documents, openProjectsByCategory, project);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(project.getId(), project);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes a project from the index once the current transaction commits.
+     */
+    public void remove(Long projectId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(projectId);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(projectId, null);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} hits ordered by score then id (both descending),
+     * starting strictly after the given (score, id) position when one is supplied.
+     */
+    public List<Hit> search(String text, Predicate<IndexedProject> filter, Double afterScore, Long afterId, int limit) {
+        List<String> queryTerms = tokenize(text).stream().distinct().toList();
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = scoreTerm(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Hit::projectId, Comparator.reverseOrder());
+
+            return scores.entrySet().stream()
+                    .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                    .filter(hit -> isAfter(hit, afterScore, afterId))
+                    .filter(hit -> filter == null || filter.test(documents.get(hit.projectId())))
+                    .sorted(ranking)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks open projects for a recommendation. Each phrase (e.g. a skill name)
+     * contributes its tf-idf weight to projects that contain all of its terms,
+     * and each project in a category with an affinity gets that affinity added.
+     * The summed score is then scaled by {@code multiplier}.
+     */
+    public List<Hit> recommend(Collection<String> phrases, Map<Long, Double> categoryAffinity,
+                               ToDoubleFunction<IndexedProject> multiplier, Set<Long> excludedIds, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            for (String phrase : phrases) {
+                scorePhrase(phrase).forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+            categoryAffinity.forEach((categoryId, affinity) ->
+                    openProjectsByCategory.getOrDefault(categoryId, Set.of())
+                            .forEach(id -> scores.merge(id, affinity, Double::sum)));
+
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Hit::projectId, Comparator.reverseOrder());
+
+            return scores.entrySet().stream()
+                    .filter(entry -> !excludedIds.contains(entry.getKey()))
+                    .map(entry -> {
+                        IndexedProject doc = documents.get(entry.getKey());
+                        return new Hit(entry.getKey(), entry.getValue() * multiplier.applyAsDouble(doc));
+                    })
+                    .sorted(ranking)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String queryTerm) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry : postings.subMap(queryTerm, queryTerm + Character.MAX_VALUE).entrySet()) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double idf = Math.log(1.0 + (double) documents.size() / entry.getValue().size());
+            double factor = entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+            entry.getValue().forEach((id, weight) -> termScores.merge(id, weight * idf * factor, Math::max));
+        }
+        return termScores;
+    }
+
+    // Exact-term matches only, restricted to open projects
+    private Map<Long, Double> scorePhrase(String phrase) {
+        Map<Long, Double> phraseScores = null;
+        for (String term : tokenize(phrase).stream().distinct().toList()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings == null) {
+                return Map.of();
+            }
+            double idf = Math.log(1.0 + (double) documents.size() / termPostings.size());
+            Map<Long, Double> termScores = new HashMap<>();
+            termPostings.forEach((id, weight) -> {
+                if (documents.get(id).status() == Project.ProjectStatus.OPEN) {
+                    termScores.put(id, weight * idf);
+                }
+            });
+            if (phraseScores == null) {
+                phraseScores = termScores;
+            } else {
+                phraseScores.keySet().retainAll(termScores.keySet());
+                phraseScores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+        }
+        return phraseScores != null ? phraseScores : Map.of();
+    }
+
+    private static boolean isAfter(Hit hit, Double afterScore, Long afterId) {
+        if (afterScore == null || afterId == null) {
+            return true;
+        }
+        int byScore = Double.compare(hit.score(), afterScore);
+        return byScore < 0 || (byScore == 0 && hit.projectId() < afterId);
+    }
+
+    private static void addDocument(TreeMap<String, Map<Long, Float>> postings, Map<Long, IndexedProject> documents,
+                                    Map<Long, Set<Long>> openProjectsByCategory, Project project) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, project.getTitle(), TITLE_BOOST);
+        addField(weights, project.getCategory(), CATEGORY_BOOST);
+        addField(weights, project.getDescription(), DESCRIPTION_BOOST);
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(project.getId(), weight));
+        documents.put(project.getId(), new IndexedProject(
+                project.getId(),
+                project.getStatus(),
+                project.getCategoryId(),
+                project.getBudget(),
+                project.getDeadline(),
+                weights.keySet()));
+        if (project.getStatus() == Project.ProjectStatus.OPEN && project.getCategoryId() != null) {
+            openProjectsByCategory.computeIfAbsent(project.getCategoryId(), c -> new HashSet<>()).add(project.getId());
+        }
+    }
+
+    private void removeDocument(Long projectId) {
+        IndexedProject existing = documents.remove(projectId);
+        if (existing == null) {
+            return;
+        }
+        Set<Long> categoryProjects = openProjectsByCategory.get(existing.categoryId());
+        if (categoryProjects != null) {
+            categoryProjects.remove(projectId);
+            if (categoryProjects.isEmpty()) {
+                openProjectsByCategory.remove(existing.categoryId());
+            }
+        }
+        for (String term : existing.terms()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(projectId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // A rolled-back write must not reach the shared index
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    // tf is dampened logarithmically so long descriptions don't drown out titles
+    private static void addField(Map<String, Float> weights, String text, float boost) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : tokenize(text)) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        counts.forEach((term, count) -> weights.merge(term, boost * (1.0f + (float) Math.log(count)), Float::sum));
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
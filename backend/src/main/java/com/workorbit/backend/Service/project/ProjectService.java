@@ -3,13 +3,18 @@ package com.workorbit.backend.Service.project;
 import com.workorbit.backend.DTO.BidResponseDTO;
 import com.workorbit.backend.DTO.ProjectCountsResponse;
 import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectFeedRequest;
+import com.workorbit.backend.DTO.ProjectFeedResponse;
+import com.workorbit.backend.Service.common.ResourceVersion;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectService {
      ProjectDTO createProject(ProjectDTO dto);
-     List<ProjectDTO> getAllProjects(String titleQuery);
+     ProjectFeedResponse getProjectFeed(ProjectFeedRequest request);
      ProjectDTO getProjectById(Long id);
+     Optional<ResourceVersion> getProjectVersion(Long id);
      List<BidResponseDTO> getBidsByProjectId(Long projectId);
      ProjectDTO updateProject(Long id, ProjectDTO dto);
      boolean deleteProjectById(Long id);
@@ -2,24 +2,35 @@ package com.workorbit.backend.Service.project;
 
 import com.workorbit.backend.DTO.BidResponseDTO;
 import com.workorbit.backend.DTO.ClientDTO;
-import com.workorbit.backend.DTO.ProjectCountResponse;
 import com.workorbit.backend.DTO.ProjectCountsResponse;
 import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectFeedRequest;
+import com.workorbit.backend.DTO.ProjectFeedResponse;
 import com.workorbit.backend.Entity.Bids;
 import com.workorbit.backend.Entity.Client;
 import com.workorbit.backend.Entity.Project;
 import com.workorbit.backend.Repository.BidRepository;
 import com.workorbit.backend.Repository.ClientRepository;
 import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Repository.ProjectSpecifications;
+import com.workorbit.backend.Service.category.CategoryDictionary;
+import com.workorbit.backend.Service.common.KeysetCursor;
+import com.workorbit.backend.Service.common.ResourceVersion;
 import com.workorbit.backend.Service.contract.ContractService;
 import com.workorbit.backend.Wallet.Service.WalletService;
 import com.workorbit.backend.Chat.Service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import java.time.LocalDateTime;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -32,6 +43,12 @@ public class ProjectServiceImpl implements ProjectService {
     private final WalletService walletService;
     private final BidRepository bidRepo;
     private final ChatService chatService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectCategoryCounter projectCategoryCounter;
+    private final CategoryDictionary categoryDictionary;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Override
     public ProjectDTO createProject(ProjectDTO dto) {
@@ -50,27 +67,128 @@ public class ProjectServiceImpl implements ProjectService {
         project.setBudget(dto.getBudget());
         project.setClient(client);
         project.setCategory(dto.getCategory());
+        project.setCategoryId(categoryDictionary.resolveId(dto.getCategory()));
 
         Project saved = projectRepository.save(project);
+        projectSearchIndex.index(saved);
+        projectCategoryCounter.projectOpened(saved.getCategoryId());
         log.info("Project saved: {}", saved.getTitle());
         return toDTO(saved);
     }
 
-    // ProjectServiceImpl.java
-
     @Override
-    public List<ProjectDTO> getAllProjects(String query) {
-        log.info("Fetching all projects with query: '{}'", query);
+    @Transactional(readOnly = true)
+    public ProjectFeedResponse getProjectFeed(ProjectFeedRequest request) {
+        log.info("Fetching project feed: {}", request);
+
+        int size = validatePageSize(request.getSize());
+
+        Long categoryId = request.getCategoryId();
+        if (categoryId == null && request.getCategory() != null && !request.getCategory().trim().isEmpty()) {
+            Optional<Long> knownCategory = categoryDictionary.findId(request.getCategory());
+            if (knownCategory.isEmpty()) {
+                log.info("Unknown category '{}', returning empty feed", request.getCategory());
+                return new ProjectFeedResponse(List.of(), null, false, size);
+            }
+            categoryId = knownCategory.get();
+        }
 
-        List<Project> projects;
-        if (query == null || query.trim().isEmpty()) {
-            projects = projectRepository.findAll();
-        } else {
-            projects = projectRepository.findProjectsWithSearch(query.trim());
+        if (request.getQuery() != null && !request.getQuery().trim().isEmpty()) {
+            return searchProjects(request, categoryId, size);
+        }
+
+        String sortField = validateSortField(request.getSortBy());
+        Sort.Direction direction = validateSortDirection(request.getSortDirection());
+
+        // id breaks ties so that every row has a unique position in the keyset
+        Sort sort = Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+        KeysetScrollPosition position = KeysetCursor.decode(request.getCursor(), sortField);
+
+        Specification<Project> spec = Specification.allOf(Stream.of(
+                        ProjectSpecifications.hasStatus(request.getStatus()),
+                        ProjectSpecifications.hasCategoryId(categoryId),
+                        ProjectSpecifications.budgetAtLeast(request.getMinBudget()),
+                        ProjectSpecifications.budgetAtMost(request.getMaxBudget()),
+                        ProjectSpecifications.deadlineFrom(request.getDeadlineFrom()),
+                        ProjectSpecifications.deadlineTo(request.getDeadlineTo()))
+                .filter(Objects::nonNull)
+                .toList());
+
+        Window<Project> window = projectRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(size)
+                .scroll(position));
+
+        List<ProjectDTO> items = loadViewsInOrder(window.getContent().stream().map(Project::getId).toList());
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+
+        log.info("Found {} projects, hasMore: {}", items.size(), window.hasNext());
+        return new ProjectFeedResponse(items, nextCursor, window.hasNext(), size);
+    }
+
+    /**
+     * Serves a feed page from the search index. Hits are ordered by relevance, so
+     * the cursor carries the (score, id) of the last hit instead of a sort column.
+     */
+    private ProjectFeedResponse searchProjects(ProjectFeedRequest request, Long categoryId, int size) {
+        KeysetScrollPosition position = KeysetCursor.decode(request.getCursor(), KeysetCursor.RELEVANCE);
+        Double afterScore = (Double) position.getKeys().get(KeysetCursor.RELEVANCE);
+        Long afterId = (Long) position.getKeys().get("id");
+
+        List<ProjectSearchIndex.Hit> hits = projectSearchIndex.search(
+                request.getQuery(), toSearchFilter(request, categoryId), afterScore, afterId, size + 1);
+        boolean hasMore = hits.size() > size;
+        List<ProjectSearchIndex.Hit> pageHits = hasMore ? hits.subList(0, size) : hits;
+
+        List<ProjectDTO> items = loadViewsInOrder(pageHits.stream().map(ProjectSearchIndex.Hit::projectId).toList());
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProjectSearchIndex.Hit last = pageHits.get(pageHits.size() - 1);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(KeysetCursor.RELEVANCE, last.score());
+            keys.put("id", last.projectId());
+            nextCursor = KeysetCursor.encode(ScrollPosition.forward(keys));
         }
 
-        log.info("Found {} projects", projects.size());
-        return projects.stream().map(this::toDTO).toList();
+        log.info("Search '{}' returned {} projects, hasMore: {}", request.getQuery(), items.size(), hasMore);
+        return new ProjectFeedResponse(items, nextCursor, hasMore, size);
+    }
+
+    /**
+     * Loads the DTOs for a page of ids with one projection query and returns them
+     * in the order of {@code ids}. Ids whose rows no longer exist are skipped.
+     */
+    private List<ProjectDTO> loadViewsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjectDTO> viewsById = new HashMap<>();
+        projectRepository.findViewsByIdIn(ids).forEach(view -> viewsById.put(view.getId(), view));
+        return ids.stream()
+                .map(viewsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Predicate<ProjectSearchIndex.IndexedProject> toSearchFilter(ProjectFeedRequest request, Long categoryId) {
+        return doc -> (request.getStatus() == null || request.getStatus() == doc.status())
+                && (categoryId == null || categoryId.equals(doc.categoryId()))
+                && (request.getMinBudget() == null || (doc.budget() != null && doc.budget() >= request.getMinBudget()))
+                && (request.getMaxBudget() == null || (doc.budget() != null && doc.budget() <= request.getMaxBudget()))
+                && (request.getDeadlineFrom() == null || (doc.deadline() != null && !doc.deadline().isBefore(request.getDeadlineFrom())))
+                && (request.getDeadlineTo() == null || (doc.deadline() != null && !doc.deadline().isAfter(request.getDeadlineTo())));
+    }
+
+    private int validatePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     private String validateSortField(String sortBy) {
@@ -108,23 +226,37 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public ProjectDTO getProjectById(Long id) {
         log.info("Fetching project by ID: {}", id);
-        Optional<Project> optionalProject = projectRepository.findById(id);
+        Optional<ProjectDTO> optionalProject = projectRepository.findViewById(id);
 
         if (optionalProject.isPresent()) {
-            Project project = optionalProject.get();
+            ProjectDTO project = optionalProject.get();
             log.info("Project found: {}", project.getTitle());
-            return toDTO(project);
+            return project;
         } else {
             log.error("Project not found with ID: {}", id);
             throw new RuntimeException("Project not found");
         }
     }
 
+    // Bid counts and client details change without touching the project's own timestamp
+    @Override
+    public Optional<ResourceVersion> getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of("project-" + id, row[0], row[1], row[2]));
+    }
+
     @Override
     public boolean deleteProjectById(Long id) {
         log.info("Deleting project by ID: {}", id);
-        if (projectRepository.existsById(id)) {
-            projectRepository.deleteById(id);
+        Optional<Project> optionalProject = projectRepository.findById(id);
+        if (optionalProject.isPresent()) {
+            Project project = optionalProject.get();
+            projectRepository.delete(project);
+            projectSearchIndex.remove(id);
+            if (project.getStatus() == Project.ProjectStatus.OPEN) {
+                projectCategoryCounter.projectClosed(project.getCategoryId());
+            }
             log.info("Project deleted: {}", id);
             return true;
         } else {
@@ -149,12 +281,14 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project project = optionalProject.get();
+        Long previousCategoryId = project.getCategoryId();
 
         project.setTitle(dto.getTitle());
         project.setDescription(dto.getDescription());
         project.setDeadline(dto.getDeadline());
         project.setBudget(dto.getBudget());
         project.setCategory(dto.getCategory());
+        project.setCategoryId(categoryDictionary.resolveId(dto.getCategory()));
 
         if (dto.getClientId() != null) {
             Client client = clientRepository.findById(dto.getClientId())
@@ -164,6 +298,11 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project updated = projectRepository.save(project);
+        projectSearchIndex.index(updated);
+        if (updated.getStatus() == Project.ProjectStatus.OPEN
+                && !Objects.equals(previousCategoryId, updated.getCategoryId())) {
+            projectCategoryCounter.categoryChanged(previousCategoryId, updated.getCategoryId());
+        }
         log.info("Project updated: {}", updated.getTitle());
         return toDTO(updated);
     }
@@ -184,8 +323,13 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         log.info("Setting project status to CLOSED");
+        boolean wasOpen = project.getStatus() == Project.ProjectStatus.OPEN;
         project.setStatus(Project.ProjectStatus.CLOSED);
         projectRepository.save(project);
+        projectSearchIndex.index(project);
+        if (wasOpen) {
+            projectCategoryCounter.projectClosed(project.getCategoryId());
+        }
 
         List<Bids> allBids = bidRepo.findByProject_Id(projectId);
         for (Bids bid : allBids) {
@@ -266,43 +410,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public ProjectCountsResponse getProjectCountsByCategory() {
-        log.info("Fetching project counts by category");
-        
-        List<Object[]> categoryCountsRaw = projectRepository.countActiveProjectsByCategory();
-        Long totalActiveProjects = projectRepository.countTotalActiveProjects();
-        
-        LocalDateTime now = LocalDateTime.now();
-        List<ProjectCountResponse> counts = categoryCountsRaw.stream()
-                .map(row -> {
-                    String category = (String) row[0];
-                    Long count = (Long) row[1];
-                    Long categoryId = getCategoryIdFromName(category);
-                    return new ProjectCountResponse(category, categoryId, count, now);
-                })
-                .toList();
-        
-        log.info("Found {} categories with active projects, total: {}", counts.size(), totalActiveProjects);
-        return new ProjectCountsResponse(counts, totalActiveProjects);
-    }
-
-    private Long getCategoryIdFromName(String categoryName) {
-        return switch (categoryName.toLowerCase()) {
-            case "web development" -> 1L;
-            case "graphic design" -> 2L;
-            case "photography" -> 3L;
-            case "marketing" -> 4L;
-            case "video editing" -> 5L;
-            case "content writing" -> 6L;
-            case "it & networking" -> 7L;
-            case "translation" -> 8L;
-            case "swe" -> 9L;
-            case "ai-ml" -> 10L;
-            case "mobile development" -> 11L;
-            case "ui-ux designer" -> 12L;
-            case "app development" -> 11L; // Map app development to mobile development
-            case "data analysis" -> 10L; // Map data analysis to AI-ML
-            default -> 0L; // Default ID for unknown categories
-        };
+        return projectCategoryCounter.getCounts();
     }
 
     private ProjectDTO toDTO(Project project) {
@@ -327,7 +435,7 @@ public class ProjectServiceImpl implements ProjectService {
                 project.getClient() != null ? project.getClient().getId() : null,
                 project.getCreatedAt(),
                 project.getUpdatedAt(),
-                project.getBids() != null ? project.getBids().size() : 0);
+                project.getBidCount());
     }
 
     private BidResponseDTO mapToDTO(Bids bid) {
@@ -374,6 +482,6 @@ public class ProjectServiceImpl implements ProjectService {
                 project.getClient() != null ? project.getClient().getId() : null,
                 project.getCreatedAt(),
                 project.getUpdatedAt(),
-                project.getBids() != null ? project.getBids().size() : 0);
+                project.getBidCount());
     }
 }
\ No newline at end of file
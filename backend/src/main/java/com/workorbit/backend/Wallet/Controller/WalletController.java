@@ -12,9 +12,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Wallet Management", description = "Wallet operations including balance management, money transfers, and payment processing")
@@ -159,6 +161,43 @@ public class WalletController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(
+        summary = "Get wallet transaction statement",
+        description = "Page through a wallet's transactions, newest first, optionally filtered by type and date range. " +
+                "Pass nextCursor from a page as 'before' to get the next one; every page costs the same however deep it is"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Statement page retrieved successfully"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Invalid request - invalid parameters or unknown cursor"
+        )
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{userId}/transactions")
+    public ResponseEntity<ApiResponse<WalletStatementResponse>> getTransactionStatement(
+            @Parameter(description = "User ID whose transactions to retrieve", required = true, example = "1")
+            @PathVariable Long userId,
+            @Parameter(description = "User role - CLIENT or FREELANCER", required = true, example = "FREELANCER")
+            @RequestParam String role,
+            @Parameter(description = "Only transactions of this type", example = "CREDIT")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Only transactions at or after this time", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only transactions before this time", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "nextCursor of the previous page", example = "1001")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "Page size, at most 100", example = "50")
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        WalletStatementResponse response = walletService.getTransactionStatement(userId, role, type, from, to, before, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(
         summary = "Withdraw money from wallet",
         description = "Withdraw funds from a user's wallet - typically used by freelancers to cash out earnings"
@@ -0,0 +1,20 @@
+package com.workorbit.backend.Wallet.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unmanaged view of a wallet's current balances, in minor units (paise).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletBalance {
+
+    private Long walletId;
+    private Long userId;
+    private String role;
+    private long availableBalanceMinor;
+    private long frozenBalanceMinor;
+}
@@ -0,0 +1,27 @@
+package com.workorbit.backend.Wallet.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a wallet's transactions, newest first. Pass nextCursor back as
+ * {@code before} to get the next (older) page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of a wallet's transaction statement, newest first")
+public class WalletStatementResponse {
+    @Schema(description = "Transactions on this page, newest first")
+    private List<WalletTransactionDTO> transactions;
+
+    @Schema(description = "Value to pass as 'before' for the next page; null on the last page", example = "1001")
+    private Long nextCursor;
+
+    @Schema(description = "Whether there are older transactions matching the filters")
+    private boolean hasMore;
+}
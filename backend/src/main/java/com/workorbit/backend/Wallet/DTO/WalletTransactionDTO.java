@@ -0,0 +1,43 @@
+package com.workorbit.backend.Wallet.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "One entry of a wallet's transaction statement")
+public class WalletTransactionDTO {
+    @Schema(description = "Unique identifier of the transaction", example = "1042")
+    private Long transactionId;
+
+    @Schema(
+        description = "Kind of transaction",
+        example = "CREDIT",
+        allowableValues = {"CREDIT", "DEBIT", "FREEZE"}
+    )
+    private String transactionType;
+
+    @Schema(description = "Amount of the transaction", example = "250.00")
+    private Double amount;
+
+    @Schema(description = "Balance before the transaction (the frozen balance for payments released by a client)", example = "1000.00")
+    private Double balanceBefore;
+
+    @Schema(description = "Balance after the transaction", example = "750.00")
+    private Double balanceAfter;
+
+    @Schema(description = "Project the transaction belongs to, if any", example = "101")
+    private Long projectId;
+
+    @Schema(description = "Description of the transaction", example = "Withdrawal to bank account")
+    private String description;
+
+    @Schema(description = "Payment method used, for money added to the wallet", example = "RAZORPAY")
+    private String paymentMethod;
+
+    @Schema(description = "When the transaction happened", example = "2024-01-15T14:30:00")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,54 @@
+package com.workorbit.backend.Wallet.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A freelancer's wallet activity in one calendar month, kept up to date as
+ * ledger rows are written so the revenue dashboard doesn't have to re-add the
+ * ledger on every request. Amounts are in minor units (paise).
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "freelancer_monthly_revenue", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_freelancer_revenue_month", columnNames = {"freelancer_id", "revenue_year", "revenue_month"})
+})
+public class FreelancerMonthlyRevenue {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "freelancer_id", nullable = false)
+    private Long freelancerId;
+
+    @Column(name = "revenue_year", nullable = false)
+    private Integer revenueYear;
+
+    // 1-12
+    @Column(name = "revenue_month", nullable = false)
+    private Integer revenueMonth;
+
+    // Totals are only changed through FreelancerMonthlyRevenueRepository.addToMonth
+
+    // Sum of CREDIT rows
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "earnings_minor", nullable = false, updatable = false)
+    private Long earningsMinor = 0L;
+
+    // Sum of DEBIT rows
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "withdrawn_minor", nullable = false, updatable = false)
+    private Long withdrawnMinor = 0L;
+
+    // CREDIT rows paying for a project; repeated payouts for one project each count
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "projects_paid", nullable = false, updatable = false)
+    private Integer projectsPaid = 0;
+}
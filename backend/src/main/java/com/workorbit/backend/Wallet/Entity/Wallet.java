@@ -2,12 +2,16 @@ package com.workorbit.backend.Wallet.Entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+    @Index(name = "idx_wallet_user_role", columnList = "user_id, role")
+})
 public class Wallet {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,7 +21,24 @@ public class Wallet {
 
     private String role;
 
-    private Double availableBalance;
+    // Balances in minor units (paise). They change only through WalletRepository's conditional
+    // updates, never by saving the entity, so concurrent changes can't overwrite each other
 
-    private Double frozenBalance;
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "available_balance_minor", nullable = false, updatable = false)
+    private Long availableBalanceMinor = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "frozen_balance_minor", nullable = false, updatable = false)
+    private Long frozenBalanceMinor = 0L;
+
+    // Balances stored before minor units; carried over once by WalletMinorUnitsMigration
+
+    @Column(name = "available_balance", insertable = false, updatable = false)
+    private Double legacyAvailableBalance;
+
+    @Column(name = "frozen_balance", insertable = false, updatable = false)
+    private Double legacyFrozenBalance;
 }
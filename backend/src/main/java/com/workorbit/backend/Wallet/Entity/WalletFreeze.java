@@ -17,7 +17,13 @@ public class WalletFreeze {
 
     private Long clientId;
 
-    private Double amount;
+    // Minor units (paise)
+    @Column(name = "amount_minor")
+    private Long amountMinor;
 
     private String status;
+
+    // Amount stored before minor units; carried over once by WalletMinorUnitsMigration
+    @Column(name = "amount", insertable = false, updatable = false)
+    private Double legacyAmount;
 }
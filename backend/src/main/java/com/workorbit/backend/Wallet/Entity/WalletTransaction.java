@@ -10,7 +10,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+    // Statement paging, newest first, optionally by type (see WalletTransactionRepository)
+    @Index(name = "idx_wallet_tx_user_created", columnList = "user_id, user_role, created_at, transaction_id"),
+    @Index(name = "idx_wallet_tx_user_type_created", columnList = "user_id, user_role, transaction_type, created_at, transaction_id")
+}, uniqueConstraints = {
+    // A Razorpay payment is credited at most once, even when verified twice concurrently
+    @UniqueConstraint(name = WalletTransaction.RAZORPAY_PAYMENT_CONSTRAINT, columnNames = "razorpay_payment_id")
+})
 public class WalletTransaction {
+    public static final String RAZORPAY_PAYMENT_CONSTRAINT = "uk_wallet_tx_razorpay_payment";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long transactionId;
@@ -18,9 +28,13 @@ public class WalletTransaction {
     private Long userId;
     private String userRole;
     private String transactionType; // CREDIT, DEBIT, FREEZE, RELEASE
-    private Double amount;
-    private Double balanceBefore;
-    private Double balanceAfter;
+    // Amounts in minor units (paise)
+    @Column(name = "amount_minor")
+    private Long amountMinor;
+    @Column(name = "balance_before_minor")
+    private Long balanceBeforeMinor;
+    @Column(name = "balance_after_minor")
+    private Long balanceAfterMinor;
     private Long projectId;
     private String description;
     // ADD these fields to your existing WalletTransaction entity
@@ -35,4 +49,12 @@ public class WalletTransaction {
     private String paymentMethod; // "RAZORPAY", "MANUAL", "BANK_TRANSFER", etc.
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Amounts stored before minor units; carried over once by WalletMinorUnitsMigration
+    @Column(name = "amount", insertable = false, updatable = false)
+    private Double legacyAmount;
+    @Column(name = "balance_before", insertable = false, updatable = false)
+    private Double legacyBalanceBefore;
+    @Column(name = "balance_after", insertable = false, updatable = false)
+    private Double legacyBalanceAfter;
 }
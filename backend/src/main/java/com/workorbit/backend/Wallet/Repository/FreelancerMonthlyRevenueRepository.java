@@ -0,0 +1,71 @@
+package com.workorbit.backend.Wallet.Repository;
+
+import com.workorbit.backend.Wallet.Entity.FreelancerMonthlyRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FreelancerMonthlyRevenueRepository extends JpaRepository<FreelancerMonthlyRevenue, Long> {
+
+    // 📊 Every month of a freelancer's activity, oldest first (served from the unique index)
+    List<FreelancerMonthlyRevenue> findByFreelancerIdOrderByRevenueYearAscRevenueMonthAsc(Long freelancerId);
+
+    // ➕ Adds to an existing month; returns 0 if the freelancer has no row for it yet
+    @Modifying
+    @Transactional
+    @Query("UPDATE FreelancerMonthlyRevenue r SET r.earningsMinor = r.earningsMinor + :earnings, " +
+           "r.withdrawnMinor = r.withdrawnMinor + :withdrawn, r.projectsPaid = r.projectsPaid + :projects " +
+           "WHERE r.freelancerId = :freelancerId AND r.revenueYear = :year AND r.revenueMonth = :month")
+    int addToMonth(@Param("freelancerId") Long freelancerId, @Param("year") int year, @Param("month") int month,
+                   @Param("earnings") long earnings, @Param("withdrawn") long withdrawn, @Param("projects") int projects);
+
+    // 🆕 Creates a month with the given totals unless it exists; safe when several instances race to create it
+    @Modifying
+    @Transactional
+    @Query("INSERT INTO FreelancerMonthlyRevenue (freelancerId, revenueYear, revenueMonth, earningsMinor, withdrawnMinor, projectsPaid) " +
+           "VALUES (:freelancerId, :year, :month, :earnings, :withdrawn, :projects) ON CONFLICT DO NOTHING")
+    int insertMonthIfAbsent(@Param("freelancerId") Long freelancerId, @Param("year") int year, @Param("month") int month,
+                            @Param("earnings") long earnings, @Param("withdrawn") long withdrawn, @Param("projects") int projects);
+
+    default int createMonthIfAbsent(Long freelancerId, int year, int month) {
+        return insertMonthIfAbsent(freelancerId, year, month, 0, 0, 0);
+    }
+
+    // 🛠️ Ledger totals of the freelancer months without a rollup row: freelancer id, year, month,
+    // earnings, withdrawn and projects paid. Each is added with insertMonthIfAbsent; Hibernate can't
+    // emulate ON CONFLICT for a multi-row INSERT ... SELECT on every database.
+    @Query("SELECT wt.userId, YEAR(wt.createdAt), MONTH(wt.createdAt), " +
+           "SUM(CASE WHEN wt.transactionType = 'CREDIT' THEN wt.amountMinor ELSE 0 END), " +
+           "SUM(CASE WHEN wt.transactionType = 'DEBIT' THEN wt.amountMinor ELSE 0 END), " +
+           "CAST(SUM(CASE WHEN wt.transactionType = 'CREDIT' AND wt.projectId IS NOT NULL THEN 1 ELSE 0 END) AS Integer) " +
+           "FROM WalletTransaction wt " +
+           "WHERE wt.userRole = 'FREELANCER' AND wt.transactionType IN ('CREDIT', 'DEBIT') " +
+           "AND wt.createdAt IS NOT NULL AND wt.amountMinor IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM FreelancerMonthlyRevenue r WHERE r.freelancerId = wt.userId " +
+           "AND r.revenueYear = YEAR(wt.createdAt) AND r.revenueMonth = MONTH(wt.createdAt)) " +
+           "GROUP BY wt.userId, YEAR(wt.createdAt), MONTH(wt.createdAt)")
+    List<Object[]> findMissingMonthsInLedger();
+
+    // A month's ledger rows, for correlated subqueries on the rollup row r
+    String MONTH_LEDGER = "FROM WalletTransaction wt WHERE wt.userId = r.freelancerId AND wt.userRole = 'FREELANCER' " +
+            "AND YEAR(wt.createdAt) = r.revenueYear AND MONTH(wt.createdAt) = r.revenueMonth AND wt.amountMinor IS NOT NULL";
+    String LEDGER_EARNINGS = "(SELECT COALESCE(SUM(wt.amountMinor), 0) " + MONTH_LEDGER + " AND wt.transactionType = 'CREDIT')";
+    String LEDGER_WITHDRAWN = "(SELECT COALESCE(SUM(wt.amountMinor), 0) " + MONTH_LEDGER + " AND wt.transactionType = 'DEBIT')";
+    String LEDGER_PROJECTS = "(SELECT CAST(COUNT(wt) AS Integer) " + MONTH_LEDGER +
+            " AND wt.transactionType = 'CREDIT' AND wt.projectId IS NOT NULL)";
+
+    // 🛠️ Recomputes months before the given one whose totals no longer match the ledger. Months still being
+    // written are skipped: a payment committing during the repair would be left out of the recomputed total.
+    @Modifying
+    @Transactional
+    @Query("UPDATE FreelancerMonthlyRevenue r SET r.earningsMinor = " + LEDGER_EARNINGS + ", " +
+           "r.withdrawnMinor = " + LEDGER_WITHDRAWN + ", r.projectsPaid = " + LEDGER_PROJECTS + " " +
+           "WHERE (r.revenueYear < :year OR (r.revenueYear = :year AND r.revenueMonth < :month)) " +
+           "AND (r.earningsMinor <> " + LEDGER_EARNINGS + " OR r.withdrawnMinor <> " + LEDGER_WITHDRAWN +
+           " OR r.projectsPaid <> " + LEDGER_PROJECTS + ")")
+    int repairMonthsBefore(@Param("year") int year, @Param("month") int month);
+}
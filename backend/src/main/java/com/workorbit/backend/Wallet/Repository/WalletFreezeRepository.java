@@ -2,9 +2,27 @@ package com.workorbit.backend.Wallet.Repository;
 
 import com.workorbit.backend.Wallet.Entity.WalletFreeze;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
 
 public interface WalletFreezeRepository extends JpaRepository<WalletFreeze, Long> {
     List<WalletFreeze> findByClientIdAndStatus(Long clientId, String status);
     WalletFreeze findByProjectIdAndClientIdAndStatus(Long projectId, Long clientId, String status);
+
+    // 🔓 Releases a freeze only if it is still frozen, so it can't be paid out twice
+    @Modifying
+    @Transactional
+    @Query("UPDATE WalletFreeze f SET f.status = 'RELEASED' WHERE f.freezeId = :freezeId AND f.status = 'FROZEN'")
+    int markReleased(@Param("freezeId") Long freezeId);
+
+    // 🛠️ Carries amounts stored as rupee doubles over to minor units, once
+    @Modifying
+    @Transactional
+    @Query("UPDATE WalletFreeze f SET f.amountMinor = CAST(ROUND(f.legacyAmount * 100, 0) AS Long), " +
+           "f.legacyAmount = NULL WHERE f.legacyAmount IS NOT NULL")
+    int migrateLegacyAmounts();
 }
@@ -1,11 +1,66 @@
 package com.workorbit.backend.Wallet.Repository;
 
 
+import com.workorbit.backend.Wallet.DTO.WalletBalance;
 import com.workorbit.backend.Wallet.Entity.Wallet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface WalletRepository extends JpaRepository<Wallet, Long> {
     Optional<Wallet> findByUserIdAndRole(Long userId, String role);
+
+    boolean existsByUserIdAndRole(Long userId, String role);
+
+    // 🔍 Current balances straight from the database, not from a managed (possibly stale) wallet
+    @Query("SELECT new com.workorbit.backend.Wallet.DTO.WalletBalance(w.walletId, w.userId, w.role, " +
+           "w.availableBalanceMinor, w.frozenBalanceMinor) FROM Wallet w WHERE w.userId = :userId AND w.role = :role")
+    Optional<WalletBalance> findBalance(@Param("userId") Long userId, @Param("role") String role);
+
+    // Balance changes are single conditional updates: the database applies them one at a time per row,
+    // so concurrent changes can't be lost, and a debit that isn't covered updates nothing (returns 0).
+    // They bypass the persistence context, so read the new balances back with findBalance.
+
+    // 💰 Adds to the available balance
+    @Modifying
+    @Transactional
+    @Query("UPDATE Wallet w SET w.availableBalanceMinor = w.availableBalanceMinor + :amount " +
+           "WHERE w.userId = :userId AND w.role = :role")
+    int credit(@Param("userId") Long userId, @Param("role") String role, @Param("amount") long amount);
+
+    // 💸 Takes from the available balance if it covers the amount
+    @Modifying
+    @Transactional
+    @Query("UPDATE Wallet w SET w.availableBalanceMinor = w.availableBalanceMinor - :amount " +
+           "WHERE w.userId = :userId AND w.role = :role AND w.availableBalanceMinor >= :amount")
+    int debit(@Param("userId") Long userId, @Param("role") String role, @Param("amount") long amount);
+
+    // 🧊 Moves an amount from available to frozen if the available balance covers it
+    @Modifying
+    @Transactional
+    @Query("UPDATE Wallet w SET w.availableBalanceMinor = w.availableBalanceMinor - :amount, " +
+           "w.frozenBalanceMinor = w.frozenBalanceMinor + :amount " +
+           "WHERE w.userId = :userId AND w.role = :role AND w.availableBalanceMinor >= :amount")
+    int freeze(@Param("userId") Long userId, @Param("role") String role, @Param("amount") long amount);
+
+    // 🔓 Takes from the frozen balance if it covers the amount
+    @Modifying
+    @Transactional
+    @Query("UPDATE Wallet w SET w.frozenBalanceMinor = w.frozenBalanceMinor - :amount " +
+           "WHERE w.userId = :userId AND w.role = :role AND w.frozenBalanceMinor >= :amount")
+    int debitFrozen(@Param("userId") Long userId, @Param("role") String role, @Param("amount") long amount);
+
+    // 🛠️ Carries balances stored as rupee doubles over to minor units, once: the old columns are cleared
+    @Modifying
+    @Transactional
+    @Query("UPDATE Wallet w SET " +
+           "w.availableBalanceMinor = w.availableBalanceMinor + CAST(ROUND(COALESCE(w.legacyAvailableBalance, 0) * 100, 0) AS Long), " +
+           "w.frozenBalanceMinor = w.frozenBalanceMinor + CAST(ROUND(COALESCE(w.legacyFrozenBalance, 0) * 100, 0) AS Long), " +
+           "w.legacyAvailableBalance = NULL, w.legacyFrozenBalance = NULL " +
+           "WHERE w.legacyAvailableBalance IS NOT NULL OR w.legacyFrozenBalance IS NOT NULL")
+    int migrateLegacyBalances();
 }
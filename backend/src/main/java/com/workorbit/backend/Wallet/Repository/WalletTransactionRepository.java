@@ -2,28 +2,60 @@ package com.workorbit.backend.Wallet.Repository;
 
 
 import com.workorbit.backend.Wallet.Entity.WalletTransaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface WalletTransactionRepository extends JpaRepository<WalletTransaction, Long> {
 
     List<WalletTransaction> findByUserIdAndUserRoleOrderByCreatedAtDesc(Long userId, String userRole);
 
-    @Query("SELECT SUM(wt.amount) FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = 'FREELANCER' AND wt.transactionType = 'CREDIT'")
-    Double getTotalEarningsByFreelancer(@Param("userId") Long userId);
+    List<WalletTransaction> findTop10ByUserIdAndUserRoleOrderByCreatedAtDesc(Long userId, String userRole);
 
-    @Query("SELECT SUM(wt.amount) FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = 'FREELANCER' AND wt.transactionType = 'DEBIT'")
-    Double getTotalWithdrawnByFreelancer(@Param("userId") Long userId);
+    // 📜 Statement pages, newest first, resuming strictly after the (createdAt, transactionId) cursor.
+    // Served by idx_wallet_tx_user_created / idx_wallet_tx_user_type_created, so any page costs the same.
+    String STATEMENT_PAGE_FILTER = "wt.createdAt >= :from AND wt.createdAt < :to " +
+            "AND (wt.createdAt < :cursorAt OR (wt.createdAt = :cursorAt AND wt.transactionId < :cursorId)) " +
+            "ORDER BY wt.createdAt DESC, wt.transactionId DESC";
 
-    @Query("SELECT wt FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = 'FREELANCER' AND wt.transactionType = 'CREDIT' AND wt.createdAt BETWEEN :startDate AND :endDate")
-    List<WalletTransaction> getFreelancerEarningsBetweenDates(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT wt FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = :role AND " + STATEMENT_PAGE_FILTER)
+    List<WalletTransaction> findStatementPage(@Param("userId") Long userId, @Param("role") String role,
+                                              @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                              @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                                              Limit limit);
 
-    @Query("SELECT COUNT(DISTINCT wt.projectId) FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = 'FREELANCER' AND wt.transactionType = 'CREDIT'")
-    Integer getCompletedProjectsCount(@Param("userId") Long userId);
+    @Query("SELECT wt FROM WalletTransaction wt WHERE wt.userId = :userId AND wt.userRole = :role " +
+           "AND wt.transactionType = :type AND " + STATEMENT_PAGE_FILTER)
+    List<WalletTransaction> findStatementPageByType(@Param("userId") Long userId, @Param("role") String role,
+                                                    @Param("type") String type,
+                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                    @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                                                    Limit limit);
+
+    Optional<WalletTransaction> findByTransactionIdAndUserIdAndUserRole(Long transactionId, Long userId, String userRole);
 
     boolean existsByRazorpayPaymentId(String razorpayPaymentId);
+
+    // 🔢 Distinct projects a freelancer has been paid for (served by idx_wallet_tx_user_type_created)
+    @Query("SELECT COUNT(DISTINCT wt.projectId) FROM WalletTransaction wt " +
+           "WHERE wt.userId = :userId AND wt.userRole = 'FREELANCER' AND wt.transactionType = 'CREDIT'")
+    long countPaidProjects(@Param("userId") Long userId);
+
+    // 🛠️ Carries amounts stored as rupee doubles over to minor units, once
+    @Modifying
+    @Transactional
+    @Query("UPDATE WalletTransaction wt SET " +
+           "wt.amountMinor = CAST(ROUND(wt.legacyAmount * 100, 0) AS Long), " +
+           "wt.balanceBeforeMinor = CAST(ROUND(wt.legacyBalanceBefore * 100, 0) AS Long), " +
+           "wt.balanceAfterMinor = CAST(ROUND(wt.legacyBalanceAfter * 100, 0) AS Long), " +
+           "wt.legacyAmount = NULL, wt.legacyBalanceBefore = NULL, wt.legacyBalanceAfter = NULL " +
+           "WHERE wt.legacyAmount IS NOT NULL")
+    int migrateLegacyAmounts();
 }
\ No newline at end of file
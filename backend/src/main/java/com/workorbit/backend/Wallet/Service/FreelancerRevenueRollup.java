@@ -0,0 +1,103 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Wallet.Entity.FreelancerMonthlyRevenue;
+import com.workorbit.backend.Wallet.Entity.WalletTransaction;
+import com.workorbit.backend.Wallet.Repository.FreelancerMonthlyRevenueRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Keeps {@link FreelancerMonthlyRevenue} in step with the wallet ledger: every
+ * freelancer CREDIT or DEBIT row is added to its month in the same transaction
+ * that writes it.
+ *
+ * <p>A month's row is created empty on first use with an insert that ignores
+ * the unique-key conflict when another writer (possibly on another instance)
+ * created it first, and amounts are only ever added by a single UPDATE.
+ *
+ * <p>A daily repair adds months missing from the rollup and recomputes past
+ * months whose totals have drifted from the ledger, e.g. after manual fixes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// The rollup is built from minor-unit amounts
+@DependsOn("walletMinorUnitsMigration")
+public class FreelancerRevenueRollup {
+
+    private final FreelancerMonthlyRevenueRepository monthlyRevenueRepository;
+
+    // Builds the rollup for ledger rows written before it existed
+    @PostConstruct
+    public void backfill() {
+        if (monthlyRevenueRepository.count() == 0) {
+            int months = addMissingMonths();
+            if (months > 0) {
+                log.info("Built {} freelancer monthly revenue rows from the wallet ledger", months);
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 45 4 * * ?") // Run at 04:45 every day
+    public void repair() {
+        log.info("Running scheduled task to repair the freelancer monthly revenue rollup");
+
+        try {
+            YearMonth currentMonth = YearMonth.now();
+            int added = addMissingMonths();
+            int repaired = monthlyRevenueRepository.repairMonthsBefore(currentMonth.getYear(),
+                    currentMonth.getMonthValue());
+            if (added > 0 || repaired > 0) {
+                log.warn("Added {} and repaired {} freelancer monthly revenue rows", added, repaired);
+            } else {
+                log.info("The freelancer monthly revenue rollup is consistent");
+            }
+        } catch (Exception e) {
+            log.error("Error during scheduled revenue rollup repair: {}", e.getMessage(), e);
+        }
+    }
+
+    // Months another instance adds at the same time are left as that instance built them
+    private int addMissingMonths() {
+        int added = 0;
+        for (Object[] month : monthlyRevenueRepository.findMissingMonthsInLedger()) {
+            added += monthlyRevenueRepository.insertMonthIfAbsent((Long) month[0],
+                    ((Number) month[1]).intValue(), ((Number) month[2]).intValue(),
+                    ((Number) month[3]).longValue(), ((Number) month[4]).longValue(), ((Number) month[5]).intValue());
+        }
+        return added;
+    }
+
+    /**
+     * Adds a ledger row to its month, if it is freelancer revenue or a withdrawal.
+     * Must run in the transaction that saves the row.
+     */
+    public void record(WalletTransaction transaction) {
+        if (!"FREELANCER".equals(transaction.getUserRole())) {
+            return;
+        }
+        boolean credit = "CREDIT".equals(transaction.getTransactionType());
+        if (!credit && !"DEBIT".equals(transaction.getTransactionType())) {
+            return;
+        }
+
+        long earnings = credit ? transaction.getAmountMinor() : 0;
+        long withdrawn = credit ? 0 : transaction.getAmountMinor();
+        int projects = credit && transaction.getProjectId() != null ? 1 : 0;
+        LocalDateTime at = transaction.getCreatedAt();
+
+        if (monthlyRevenueRepository.addToMonth(transaction.getUserId(), at.getYear(), at.getMonthValue(),
+                earnings, withdrawn, projects) == 0) {
+            monthlyRevenueRepository.createMonthIfAbsent(transaction.getUserId(), at.getYear(), at.getMonthValue());
+            monthlyRevenueRepository.addToMonth(transaction.getUserId(), at.getYear(), at.getMonthValue(),
+                    earnings, withdrawn, projects);
+        }
+    }
+}
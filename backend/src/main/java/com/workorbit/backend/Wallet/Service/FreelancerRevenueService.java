@@ -1,7 +1,9 @@
 package com.workorbit.backend.Wallet.Service;
 
 
+import com.workorbit.backend.DTO.ProjectPartiesRow;
 import com.workorbit.backend.Wallet.DTO.*;
+import com.workorbit.backend.Wallet.Entity.FreelancerMonthlyRevenue;
 import com.workorbit.backend.Wallet.Entity.WalletTransaction;
 import com.workorbit.backend.Wallet.Repository.*;
 import com.workorbit.backend.Repository.FreelancerRepository;
@@ -9,8 +11,13 @@ import com.workorbit.backend.Repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +28,9 @@ public class FreelancerRevenueService {
     private final WalletRepository walletRepository;
     private final FreelancerRepository freelancerRepository;
     private final ProjectRepository projectRepository;
+    private final FreelancerMonthlyRevenueRepository monthlyRevenueRepository;
+
+    private static final int MONTHLY_DATA_POINTS = 12;
 
     public FreelancerRevenueDTO getFreelancerRevenue(Long freelancerId) {
         var freelancer = freelancerRepository.findById(freelancerId)
@@ -29,47 +39,54 @@ public class FreelancerRevenueService {
         var wallet = walletRepository.findByUserIdAndRole(freelancerId, "FREELANCER")
                 .orElse(null);
 
-        Double totalEarnings = transactionRepository.getTotalEarningsByFreelancer(freelancerId);
-        Double totalWithdrawn = transactionRepository.getTotalWithdrawnByFreelancer(freelancerId);
-        Integer completedProjects = transactionRepository.getCompletedProjectsCount(freelancerId);
+        // One indexed read of the monthly rollup covers all totals and the breakdown
+        List<FreelancerMonthlyRevenue> months = monthlyRevenueRepository
+                .findByFreelancerIdOrderByRevenueYearAscRevenueMonthAsc(freelancerId);
 
         List<WalletTransaction> recentTransactions = transactionRepository
-                .findByUserIdAndUserRoleOrderByCreatedAtDesc(freelancerId, "FREELANCER")
-                .stream()
-                .limit(10)
-                .collect(Collectors.toList());
+                .findTop10ByUserIdAndUserRoleOrderByCreatedAtDesc(freelancerId, "FREELANCER");
 
         return FreelancerRevenueDTO.builder()
                 .freelancerId(freelancerId)
                 .freelancerName(freelancer.getName())
-                .totalEarnings(totalEarnings != null ? totalEarnings : 0.0)
-                .currentBalance(wallet != null ? wallet.getAvailableBalance() : 0.0)
-                .totalWithdrawn(totalWithdrawn != null ? totalWithdrawn : 0.0)
-                .completedProjects(completedProjects != null ? completedProjects : 0)
+                .totalEarnings(MinorUnits.toMajor(months.stream().mapToLong(FreelancerMonthlyRevenue::getEarningsMinor).sum()))
+                .currentBalance(wallet != null ? MinorUnits.toMajor(wallet.getAvailableBalanceMinor()) : 0.0)
+                .totalWithdrawn(MinorUnits.toMajor(months.stream().mapToLong(FreelancerMonthlyRevenue::getWithdrawnMinor).sum()))
+                // A project can be paid more than once, so this is counted from the ledger, not the rollup
+                .completedProjects(Math.toIntExact(transactionRepository.countPaidProjects(freelancerId)))
                 .recentTransactions(mapToRevenueTransactions(recentTransactions))
-                .monthlyBreakdown(getMonthlyBreakdown(freelancerId))
+                .monthlyBreakdown(getMonthlyBreakdown(months))
                 .build();
     }
 
     private List<RevenueTransactionDTO> mapToRevenueTransactions(List<WalletTransaction> transactions) {
+        // Titles and clients of all the projects in one query
+        Set<Long> projectIds = transactions.stream()
+                .map(WalletTransaction::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ProjectPartiesRow> projects = projectIds.isEmpty() ? Map.of()
+                : projectRepository.findPartiesByIdIn(projectIds).stream()
+                        .collect(Collectors.toMap(ProjectPartiesRow::getProjectId, Function.identity(),
+                                (first, second) -> first));
+
         return transactions.stream()
                 .map(transaction -> {
                     String projectTitle = "Unknown Project";
                     String clientName = "Unknown Client";
 
-                    if (transaction.getProjectId() != null) {
-                        var project = projectRepository.findById(transaction.getProjectId());
-                        if (project.isPresent()) {
-                            projectTitle = project.get().getTitle();
-                            clientName = project.get().getClient().getName();
-                        }
+                    ProjectPartiesRow project = transaction.getProjectId() != null
+                            ? projects.get(transaction.getProjectId()) : null;
+                    if (project != null) {
+                        projectTitle = project.getTitle();
+                        clientName = project.getClientName();
                     }
 
                     return RevenueTransactionDTO.builder()
                             .projectId(transaction.getProjectId())
                             .projectTitle(projectTitle)
                             .clientName(clientName)
-                            .amount(transaction.getAmount())
+                            .amount(MinorUnits.toMajor(transaction.getAmountMinor()))
                             .receivedAt(transaction.getCreatedAt())
                             .status(transaction.getTransactionType().equals("CREDIT") ? "RECEIVED" : "WITHDRAWN")
                             .build();
@@ -77,39 +94,42 @@ public class FreelancerRevenueService {
                 .collect(Collectors.toList());
     }
 
-    private MonthlyRevenueDTO getMonthlyBreakdown(Long freelancerId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfCurrentMonth = now.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime startOfLastMonth = startOfCurrentMonth.minusMonths(1);
-        LocalDateTime startOfYear = now.withDayOfYear(1).withHour(0).withMinute(0).withSecond(0);
-
-        List<WalletTransaction> currentMonthTransactions = transactionRepository
-                .getFreelancerEarningsBetweenDates(freelancerId, startOfCurrentMonth, now);
-        Double currentMonth = currentMonthTransactions.stream()
-                .mapToDouble(WalletTransaction::getAmount)
-                .sum();
+    private MonthlyRevenueDTO getMonthlyBreakdown(List<FreelancerMonthlyRevenue> months) {
+        YearMonth currentMonth = YearMonth.now();
+        Map<YearMonth, FreelancerMonthlyRevenue> byMonth = months.stream()
+                .collect(Collectors.toMap(month -> YearMonth.of(month.getRevenueYear(), month.getRevenueMonth()),
+                        Function.identity()));
 
-        List<WalletTransaction> lastMonthTransactions = transactionRepository
-                .getFreelancerEarningsBetweenDates(freelancerId, startOfLastMonth, startOfCurrentMonth);
-        Double lastMonth = lastMonthTransactions.stream()
-                .mapToDouble(WalletTransaction::getAmount)
-                .sum();
-
-        List<WalletTransaction> yearTransactions = transactionRepository
-                .getFreelancerEarningsBetweenDates(freelancerId, startOfYear, now);
-        Double currentYear = yearTransactions.stream()
-                .mapToDouble(WalletTransaction::getAmount)
+        long currentYear = months.stream()
+                .filter(month -> month.getRevenueYear() == currentMonth.getYear())
+                .mapToLong(FreelancerMonthlyRevenue::getEarningsMinor)
                 .sum();
 
         return MonthlyRevenueDTO.builder()
-                .currentMonth(currentMonth)
-                .lastMonth(lastMonth)
-                .currentYear(currentYear)
-                .monthlyData(getMonthlyDataPoints(freelancerId))
+                .currentMonth(earningsIn(byMonth.get(currentMonth)))
+                .lastMonth(earningsIn(byMonth.get(currentMonth.minusMonths(1))))
+                .currentYear(MinorUnits.toMajor(currentYear))
+                .monthlyData(getMonthlyDataPoints(byMonth, currentMonth))
                 .build();
     }
 
-    private List<MonthlyDataPoint> getMonthlyDataPoints(Long freelancerId) {
-        return List.of();
+    // The last MONTHLY_DATA_POINTS months up to the current one, oldest first, including months without activity
+    private List<MonthlyDataPoint> getMonthlyDataPoints(Map<YearMonth, FreelancerMonthlyRevenue> byMonth,
+                                                        YearMonth currentMonth) {
+        List<MonthlyDataPoint> points = new ArrayList<>(MONTHLY_DATA_POINTS);
+        for (int i = MONTHLY_DATA_POINTS - 1; i >= 0; i--) {
+            YearMonth month = currentMonth.minusMonths(i);
+            FreelancerMonthlyRevenue revenue = byMonth.get(month);
+            points.add(MonthlyDataPoint.builder()
+                    .month(month.toString())
+                    .earnings(earningsIn(revenue))
+                    .projects(revenue != null ? revenue.getProjectsPaid() : 0)
+                    .build());
+        }
+        return points;
+    }
+
+    private static Double earningsIn(FreelancerMonthlyRevenue month) {
+        return month != null ? MinorUnits.toMajor(month.getEarningsMinor()) : 0.0;
     }
-}
\ No newline at end of file
+}
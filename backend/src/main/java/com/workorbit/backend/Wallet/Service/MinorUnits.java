@@ -0,0 +1,39 @@
+package com.workorbit.backend.Wallet.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts between the rupee amounts used by the API and the minor units
+ * (paise) wallets are stored in. Conversion goes through BigDecimal so that
+ * e.g. 1.1 becomes exactly 110 paise.
+ */
+public final class MinorUnits {
+
+    private static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    public static long toMinor(Double amount) {
+        if (amount == null || amount.isNaN() || amount.isInfinite()) {
+            throw new IllegalArgumentException("Amount must be a number");
+        }
+        return BigDecimal.valueOf(amount).setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Converts an amount that has to be positive, as every balance change does.
+     */
+    public static long toPositiveMinor(Double amount) {
+        long minor = toMinor(amount);
+        if (minor <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        return minor;
+    }
+
+    public static Double toMajor(Long minor) {
+        return minor != null ? BigDecimal.valueOf(minor, SCALE).doubleValue() : null;
+    }
+}
@@ -11,14 +11,17 @@ import com.workorbit.backend.Wallet.DTO.AddMoneyOrderRequest;
 import com.workorbit.backend.Wallet.DTO.RazorpayOrderResponse;
 import com.workorbit.backend.Wallet.DTO.VerifyPaymentRequest;
 import com.workorbit.backend.Wallet.DTO.WalletResponseDTO;
+import com.workorbit.backend.Wallet.Entity.WalletTransaction;
 import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.UUID;
 
 @Slf4j
@@ -52,7 +55,7 @@ public class RazorpayService {
 
             // Create order options
             JSONObject orderRequest = new JSONObject();
-            orderRequest.put("amount", request.getAmount() * 100); // Convert to paise
+            orderRequest.put("amount", MinorUnits.toMinor(request.getAmount())); // Convert to paise
             orderRequest.put("currency", currency);
             orderRequest.put("receipt", generateReceiptId(request.getUserId()));
 
@@ -83,8 +86,13 @@ public class RazorpayService {
         }
     }
 
-    @Transactional
     public WalletResponseDTO verifyAndAddToWallet(VerifyPaymentRequest request) {
+        // Taken before the duplicate check, so verifications for the same wallet run one at a time
+        return walletService.inLockedTransaction(() -> verifyAndCredit(request),
+                walletService.walletKey(request.getUserId(), request.getRole()));
+    }
+
+    private WalletResponseDTO verifyAndCredit(VerifyPaymentRequest request) {
         log.info("Verifying payment for userId: {}, paymentId: {}", request.getUserId(), request.getRazorpayPaymentId());
 
         try {
@@ -98,14 +106,23 @@ public class RazorpayService {
                 throw new RuntimeException("Payment already processed. Duplicate payment detected.");
             }
 
-            // 3. Add money to wallet using existing service
-            WalletResponseDTO walletResponse = walletService.addMoneyAfterVerification(
-                    request.getUserId(),
-                    request.getRole(),
-                    request.getAmount(),
-                    request.getRazorpayPaymentId(),
-                    request.getRazorpayOrderId()
-            );
+            // 3. Add money to wallet using existing service; a concurrent verification of the same
+            //    payment passes the check above too, but only one ledger row can carry its id
+            WalletResponseDTO walletResponse;
+            try {
+                walletResponse = walletService.addMoneyAfterVerification(
+                        request.getUserId(),
+                        request.getRole(),
+                        request.getAmount(),
+                        request.getRazorpayPaymentId(),
+                        request.getRazorpayOrderId()
+                );
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicatePayment(e)) {
+                    throw new RuntimeException("Payment already processed. Duplicate payment detected.");
+                }
+                throw e;
+            }
 
             Client client = clientRepository.findById(request.getUserId())
                     .orElseThrow(() -> new RuntimeException("Client not found with ID: " + request.getUserId()));
@@ -161,6 +178,16 @@ public class RazorpayService {
         return transactionRepository.existsByRazorpayPaymentId(razorpayPaymentId);
     }
 
+    /**
+     * Whether the failed insert was a second ledger row for the same Razorpay payment
+     */
+    private boolean isDuplicatePayment(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT)
+                        .contains(WalletTransaction.RAZORPAY_PAYMENT_CONSTRAINT);
+    }
+
     /**
      * Generate unique receipt ID
      */
@@ -0,0 +1,124 @@
+package com.workorbit.backend.Wallet.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes balance changes per wallet in memory, so concurrent operations on
+ * a hot wallet (e.g. a client accepting many bids at once) queue here instead
+ * of on the wallet's database row, while other wallets proceed in parallel.
+ *
+ * <p>Wallets are hashed onto {@code app.wallet.lock-stripes} locks. Callers
+ * hold a lock around a whole transaction of their own, so it is released as
+ * soon as the change commits. Locks are per instance; the conditional updates
+ * in WalletRepository keep balances correct across instances regardless.
+ *
+ * <p>Per stripe, {@code wallet.lock.acquired} counts acquisitions,
+ * {@code wallet.lock.contended} those that had to wait, {@code wallet.lock.wait}
+ * times the waits and {@code wallet.lock.queued} is the number of threads waiting.
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletLockManager {
+
+    public record WalletKey(Long userId, String role) {
+    }
+
+    private record Stripe(ReentrantLock lock, Counter acquired, Counter contended, Timer waits) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.wallet.lock-stripes:64}")
+    private int stripeCount;
+
+    @Value("${app.wallet.lock-timeout-ms:10000}")
+    private long lockTimeoutMillis;
+
+    private Stripe[] stripes;
+
+    @PostConstruct
+    void createStripes() {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String stripe = Integer.toString(i);
+            ReentrantLock lock = new ReentrantLock();
+            Gauge.builder("wallet.lock.queued", lock, ReentrantLock::getQueueLength)
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+            stripes[i] = new Stripe(lock,
+                    meterRegistry.counter("wallet.lock.acquired", "stripe", stripe),
+                    meterRegistry.counter("wallet.lock.contended", "stripe", stripe),
+                    meterRegistry.timer("wallet.lock.wait", "stripe", stripe));
+        }
+    }
+
+    /**
+     * Runs {@code action} holding the locks of {@code wallets}. Locks are always
+     * taken in stripe order, so operations on several wallets can't deadlock.
+     * The action should be a complete transaction, so that its changes are
+     * committed before the locks are released.
+     */
+    public <T> T callLocked(Supplier<T> action, WalletKey... wallets) {
+        int[] held = lock(wallets);
+        try {
+            return action.get();
+        } finally {
+            unlock(held);
+        }
+    }
+
+    int stripeOf(WalletKey wallet) {
+        int hash = 31 * wallet.userId().hashCode() + wallet.role().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    private int[] lock(WalletKey... wallets) {
+        int[] indexes = Arrays.stream(wallets).mapToInt(this::stripeOf).sorted().distinct().toArray();
+        for (int i = 0; i < indexes.length; i++) {
+            try {
+                acquire(stripes[indexes[i]]);
+            } catch (RuntimeException e) {
+                unlock(Arrays.copyOf(indexes, i));
+                throw e;
+            }
+        }
+        return indexes;
+    }
+
+    private void acquire(Stripe stripe) {
+        stripe.acquired().increment();
+        if (stripe.lock().tryLock()) {
+            return;
+        }
+        stripe.contended().increment();
+        long start = System.nanoTime();
+        try {
+            if (!stripe.lock().tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Wallet is busy, please try again.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the wallet", e);
+        } finally {
+            stripe.waits().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void unlock(int[] indexes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].lock().unlock();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Wallet.Repository.WalletFreezeRepository;
+import com.workorbit.backend.Wallet.Repository.WalletRepository;
+import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wallet amounts used to be stored as rupee doubles. Schema updates can't change
+ * a column's type, so minor-unit amounts live in new {@code *_minor} columns;
+ * this carries the old values over on startup, before any request is served.
+ * Carried-over values are cleared, so it is a no-op once done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WalletMinorUnitsMigration {
+
+    private final WalletRepository walletRepository;
+    private final WalletFreezeRepository walletFreezeRepository;
+    private final WalletTransactionRepository walletTransactionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void migrate() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            int wallets = walletRepository.migrateLegacyBalances();
+            int freezes = walletFreezeRepository.migrateLegacyAmounts();
+            int transactions = walletTransactionRepository.migrateLegacyAmounts();
+            if (wallets + freezes + transactions > 0) {
+                log.info("Moved {} wallets, {} freezes and {} wallet transactions to minor units",
+                        wallets, freezes, transactions);
+            }
+        });
+    }
+}
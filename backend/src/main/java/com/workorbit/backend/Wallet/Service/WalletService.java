@@ -1,11 +1,13 @@
 package com.workorbit.backend.Wallet.Service;
 
-import com.workorbit.backend.Entity.Bids;
-import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.DTO.ProjectPartiesRow;
 import com.workorbit.backend.Repository.ProjectRepository;
 import com.workorbit.backend.Wallet.DTO.FrozenAmountDTO;
+import com.workorbit.backend.Wallet.DTO.WalletBalance;
 import com.workorbit.backend.Wallet.DTO.WalletRequestDTO;
 import com.workorbit.backend.Wallet.DTO.WalletResponseDTO;
+import com.workorbit.backend.Wallet.DTO.WalletStatementResponse;
+import com.workorbit.backend.Wallet.DTO.WalletTransactionDTO;
 import com.workorbit.backend.Wallet.DTO.WithdrawRequestDTO;
 import com.workorbit.backend.Wallet.Entity.Wallet;
 import com.workorbit.backend.Wallet.Entity.WalletFreeze;
@@ -13,14 +15,22 @@ import com.workorbit.backend.Wallet.Entity.WalletTransaction;
 import com.workorbit.backend.Wallet.Repository.WalletFreezeRepository;
 import com.workorbit.backend.Wallet.Repository.WalletRepository;
 import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
-import jakarta.transaction.Transactional;
+import com.workorbit.backend.Wallet.Service.WalletLockManager.WalletKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,6 +45,14 @@ public class WalletService {
 
     private final WalletRepository walletRepository;
     private final WalletFreezeRepository walletFreezeRepository;
+    private final WalletLockManager walletLockManager;
+    private final FreelancerRevenueRollup freelancerRevenueRollup;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_STATEMENT_LIMIT = 100;
+    // Open ends of the statement's date range and cursor
+    private static final LocalDateTime STATEMENT_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime STATEMENT_END = LocalDateTime.of(9999, 12, 31, 0, 0);
 
     private String normalizeRole(String role) {
         if (role.equalsIgnoreCase("ROLE_CLIENT")) return "CLIENT";
@@ -53,46 +71,38 @@ public class WalletService {
             throw new RuntimeException("Wallet already exists for this user and role");
         }
 
-        Wallet wallet = Wallet.builder()
-                .userId(userId)
-                .role(normalizedRole)
-                .availableBalance(0.0)
-                .frozenBalance(0.0)
-                .build();
-
-        Wallet savedWallet = walletRepository.save(wallet);
+        Wallet savedWallet = walletRepository.save(createWalletEntity(userId, normalizedRole));
         log.info("✅ Wallet created successfully with ID: {}", savedWallet.getWalletId());
 
         return toResponse(savedWallet);
     }
 
-    public WalletResponseDTO addMoney(WalletRequestDTO request) {
-        if (request.getAmount() <= 0) {
-            throw new IllegalArgumentException("Amount must be positive");
-        }
+    // Every balance change below is one conditional UPDATE on the wallet row (see WalletRepository),
+    // made while holding the wallet's lock from WalletLockManager: around a transaction of its own, or
+    // taken by the caller through inLockedTransaction when the change joins the caller's. The row then
+    // stays locked until the transaction commits, so re-reading it gives the exact balance after this
+    // change, and the balance before it is derived from that.
 
+    public WalletResponseDTO addMoney(WalletRequestDTO request) {
+        long amount = MinorUnits.toPositiveMinor(request.getAmount());
         String normalizedRole = normalizeRole(request.getRole());
 
-        Wallet wallet = walletRepository.findByUserIdAndRole(request.getUserId(), normalizedRole)
-                .orElseThrow(() -> new RuntimeException("Wallet not found. Please contact support."));
-
-        Double balanceBefore = wallet.getAvailableBalance() != null ? wallet.getAvailableBalance() : 0.0;
-        Double newBalance = balanceBefore + request.getAmount();
-        wallet.setAvailableBalance(newBalance);
-        walletRepository.save(wallet);
-
-        WalletTransaction transaction = WalletTransaction.builder()
-                .userId(request.getUserId())
-                .userRole(normalizedRole)
-                .transactionType("CREDIT")
-                .amount(request.getAmount())
-                .balanceBefore(balanceBefore)
-                .balanceAfter(newBalance)
-                .description("Money added to wallet")
-                .build();
-        transactionRepository.save(transaction);
-
-        return toResponse(wallet);
+        return inWalletTransaction(() -> {
+            WalletBalance wallet = credit(request.getUserId(), normalizedRole, amount);
+
+            WalletTransaction transaction = WalletTransaction.builder()
+                    .userId(request.getUserId())
+                    .userRole(normalizedRole)
+                    .transactionType("CREDIT")
+                    .amountMinor(amount)
+                    .balanceBeforeMinor(wallet.getAvailableBalanceMinor() - amount)
+                    .balanceAfterMinor(wallet.getAvailableBalanceMinor())
+                    .description("Money added to wallet")
+                    .build();
+            recordTransaction(transaction);
+
+            return toResponse(wallet);
+        }, new WalletKey(request.getUserId(), normalizedRole));
     }
 
     public WalletResponseDTO getWallet(Long userId, String role) {
@@ -104,146 +114,183 @@ public class WalletService {
         return toResponse(wallet);
     }
 
-    public WalletResponseDTO withdraw(WithdrawRequestDTO request) {
-        Wallet wallet = walletRepository.findByUserIdAndRole(request.getUserId(), "FREELANCER")
-                .orElseThrow(() -> new RuntimeException("Freelancer wallet not found"));
-
-        Double availableBefore = wallet.getAvailableBalance();
-
-        if (availableBefore == null || availableBefore < request.getAmount()) {
-            throw new RuntimeException("Insufficient balance for withdrawal.");
+    /**
+     * One page of a wallet's transactions, newest first, keyed by the last
+     * transaction of the previous page ({@code before}). {@code type} and the
+     * {@code from} (inclusive) / {@code to} (exclusive) range are optional.
+     */
+    public WalletStatementResponse getTransactionStatement(Long userId, String role, String type,
+                                                           LocalDateTime from, LocalDateTime to,
+                                                           Long before, int limit) {
+        String normalizedRole = normalizeRole(role);
+        int pageSize = Math.max(1, Math.min(limit, MAX_STATEMENT_LIMIT));
+
+        LocalDateTime cursorAt = STATEMENT_END;
+        long cursorId = Long.MAX_VALUE;
+        if (before != null) {
+            WalletTransaction cursor = transactionRepository
+                    .findByTransactionIdAndUserIdAndUserRole(before, userId, normalizedRole)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown transaction cursor: " + before));
+            cursorAt = cursor.getCreatedAt();
+            cursorId = cursor.getTransactionId();
         }
+        LocalDateTime start = from != null ? from : STATEMENT_START;
+        LocalDateTime end = to != null ? to : STATEMENT_END;
+
+        // One extra row tells whether there is another page, without a count query
+        Limit rows = Limit.of(pageSize + 1);
+        List<WalletTransaction> transactions = type != null
+                ? transactionRepository.findStatementPageByType(userId, normalizedRole, type.toUpperCase(),
+                        start, end, cursorAt, cursorId, rows)
+                : transactionRepository.findStatementPage(userId, normalizedRole, start, end, cursorAt, cursorId, rows);
+
+        boolean hasMore = transactions.size() > pageSize;
+        if (hasMore) {
+            transactions = transactions.subList(0, pageSize);
+        }
+        Long nextCursor = hasMore ? transactions.get(transactions.size() - 1).getTransactionId() : null;
+        return new WalletStatementResponse(transactions.stream().map(this::toTransactionResponse).toList(),
+                nextCursor, hasMore);
+    }
 
-        wallet.setAvailableBalance(availableBefore - request.getAmount());
-        walletRepository.save(wallet);
-
-        WalletTransaction transaction = WalletTransaction.builder()
-                .userId(request.getUserId())
-                .userRole("FREELANCER")
-                .transactionType("DEBIT")
-                .amount(request.getAmount())
-                .balanceBefore(availableBefore)
-                .balanceAfter(availableBefore - request.getAmount())
-                .description("Withdrawal to bank account")
-                .build();
-        transactionRepository.save(transaction);
-
-        return toResponse(wallet);
+    public WalletResponseDTO withdraw(WithdrawRequestDTO request) {
+        long amount = MinorUnits.toPositiveMinor(request.getAmount());
+
+        return inWalletTransaction(() -> {
+            if (walletRepository.debit(request.getUserId(), "FREELANCER", amount) == 0) {
+                throw new RuntimeException(walletRepository.existsByUserIdAndRole(request.getUserId(), "FREELANCER")
+                        ? "Insufficient balance for withdrawal."
+                        : "Freelancer wallet not found");
+            }
+            WalletBalance wallet = reload(request.getUserId(), "FREELANCER");
+
+            WalletTransaction transaction = WalletTransaction.builder()
+                    .userId(request.getUserId())
+                    .userRole("FREELANCER")
+                    .transactionType("DEBIT")
+                    .amountMinor(amount)
+                    .balanceBeforeMinor(wallet.getAvailableBalanceMinor() + amount)
+                    .balanceAfterMinor(wallet.getAvailableBalanceMinor())
+                    .description("Withdrawal to bank account")
+                    .build();
+            recordTransaction(transaction);
+
+            return toResponse(wallet);
+        }, new WalletKey(request.getUserId(), "FREELANCER"));
     }
 
     public void freezeAmount(Long clientId, Long projectId, Double amount) {
-        Wallet wallet = walletRepository.findByUserIdAndRole(clientId, "CLIENT")
-                .orElseThrow(() -> new RuntimeException("Client wallet not found"));
-
-        Double available = wallet.getAvailableBalance() != null ? wallet.getAvailableBalance() : 0.0;
-        Double frozen = wallet.getFrozenBalance() != null ? wallet.getFrozenBalance() : 0.0;
-
-        if (available < amount) {
-            throw new RuntimeException("Insufficient funds to accept this bid.");
-        }
-
-        // Update wallet balances
-        wallet.setAvailableBalance(available - amount);
-        wallet.setFrozenBalance(frozen + amount);
-        walletRepository.save(wallet);
-
-        // Create freeze entry for tracking
-        WalletFreeze freeze = WalletFreeze.builder()
-                .clientId(clientId)
-                .projectId(projectId)
-                .amount(amount)
-                .status("FROZEN")
-                .build();
-        walletFreezeRepository.save(freeze);
-
-        WalletTransaction transaction = WalletTransaction.builder()
-                .userId(clientId)
-                .userRole("CLIENT")
-                .transactionType("FREEZE")
-                .amount(amount)
-                .balanceBefore(available)
-                .balanceAfter(available - amount)
-                .projectId(projectId)
-                .description("Amount frozen for project bid acceptance")
-                .build();
-        transactionRepository.save(transaction);
+        long amountMinor = MinorUnits.toPositiveMinor(amount);
+
+        inWalletTransaction(() -> {
+            // Moves the amount from available to frozen, if available covers it
+            if (walletRepository.freeze(clientId, "CLIENT", amountMinor) == 0) {
+                throw new RuntimeException(walletRepository.existsByUserIdAndRole(clientId, "CLIENT")
+                        ? "Insufficient funds to accept this bid."
+                        : "Client wallet not found");
+            }
+            WalletBalance wallet = reload(clientId, "CLIENT");
+
+            // Create freeze entry for tracking
+            WalletFreeze freeze = WalletFreeze.builder()
+                    .clientId(clientId)
+                    .projectId(projectId)
+                    .amountMinor(amountMinor)
+                    .status("FROZEN")
+                    .build();
+            walletFreezeRepository.save(freeze);
+
+            WalletTransaction transaction = WalletTransaction.builder()
+                    .userId(clientId)
+                    .userRole("CLIENT")
+                    .transactionType("FREEZE")
+                    .amountMinor(amountMinor)
+                    .balanceBeforeMinor(wallet.getAvailableBalanceMinor() + amountMinor)
+                    .balanceAfterMinor(wallet.getAvailableBalanceMinor())
+                    .projectId(projectId)
+                    .description("Amount frozen for project bid acceptance")
+                    .build();
+            recordTransaction(transaction);
+            return null;
+        }, new WalletKey(clientId, "CLIENT"));
     }
 
     public void releasePayment(Long clientId, Long freelancerId, Long projectId, Double amount) {
-        WalletFreeze freeze = walletFreezeRepository.findByProjectIdAndClientIdAndStatus(projectId, clientId, "FROZEN");
-        if (freeze == null) {
-            throw new RuntimeException("No frozen funds found for this project and client.");
-        }
-        freeze.setStatus("RELEASED");
-        walletFreezeRepository.save(freeze);
-
-        Wallet clientWallet = walletRepository.findByUserIdAndRole(clientId, "CLIENT")
-                .orElseThrow(() -> new RuntimeException("Client wallet not found"));
-
-        Double frozen = clientWallet.getFrozenBalance() != null ? clientWallet.getFrozenBalance() : 0.0;
-        if (frozen < amount) {
-            throw new RuntimeException("Insufficient frozen funds to release payment.");
-        }
-
-        clientWallet.setFrozenBalance(frozen - amount);
-        walletRepository.save(clientWallet);
-
-        Wallet freelancerWallet = walletRepository.findByUserIdAndRole(freelancerId, "FREELANCER")
-                .orElse(createWalletEntity(freelancerId, "FREELANCER"));
-
-        Double availableFreelancer = freelancerWallet.getAvailableBalance() != null ? freelancerWallet.getAvailableBalance() : 0.0;
-        freelancerWallet.setAvailableBalance(availableFreelancer + amount);
-        walletRepository.save(freelancerWallet);
-
-        WalletTransaction freelancerTransaction = WalletTransaction.builder()
-                .userId(freelancerId)
-                .userRole("FREELANCER")
-                .transactionType("CREDIT")
-                .amount(amount)
-                .balanceBefore(availableFreelancer)
-                .balanceAfter(availableFreelancer + amount)
-                .projectId(projectId)
-                .description("Payment received for project completion")
-                .build();
-        transactionRepository.save(freelancerTransaction);
-
-        // Log transaction for client
-        WalletTransaction clientTransaction = WalletTransaction.builder()
-                .userId(clientId)
-                .userRole("CLIENT")
-                .transactionType("DEBIT")
-                .amount(amount)
-                .balanceBefore(frozen)
-                .balanceAfter(frozen - amount)
-                .projectId(projectId)
-                .description("Payment released to freelancer")
-                .build();
-        transactionRepository.save(clientTransaction);
+        long amountMinor = MinorUnits.toPositiveMinor(amount);
+
+        inWalletTransaction(() -> {
+            WalletFreeze freeze = walletFreezeRepository.findByProjectIdAndClientIdAndStatus(projectId, clientId, "FROZEN");
+            // Only one of two concurrent releases gets to flip the freeze
+            if (freeze == null || walletFreezeRepository.markReleased(freeze.getFreezeId()) == 0) {
+                throw new RuntimeException("No frozen funds found for this project and client.");
+            }
+
+            if (walletRepository.debitFrozen(clientId, "CLIENT", amountMinor) == 0) {
+                throw new RuntimeException(walletRepository.existsByUserIdAndRole(clientId, "CLIENT")
+                        ? "Insufficient frozen funds to release payment."
+                        : "Client wallet not found");
+            }
+            WalletBalance clientWallet = reload(clientId, "CLIENT");
+
+            if (walletRepository.credit(freelancerId, "FREELANCER", amountMinor) == 0) {
+                Wallet newWallet = createWalletEntity(freelancerId, "FREELANCER");
+                newWallet.setAvailableBalanceMinor(amountMinor);
+                walletRepository.save(newWallet);
+            }
+            WalletBalance freelancerWallet = reload(freelancerId, "FREELANCER");
+
+            WalletTransaction freelancerTransaction = WalletTransaction.builder()
+                    .userId(freelancerId)
+                    .userRole("FREELANCER")
+                    .transactionType("CREDIT")
+                    .amountMinor(amountMinor)
+                    .balanceBeforeMinor(freelancerWallet.getAvailableBalanceMinor() - amountMinor)
+                    .balanceAfterMinor(freelancerWallet.getAvailableBalanceMinor())
+                    .projectId(projectId)
+                    .description("Payment received for project completion")
+                    .build();
+            recordTransaction(freelancerTransaction);
+
+            // Log transaction for client
+            WalletTransaction clientTransaction = WalletTransaction.builder()
+                    .userId(clientId)
+                    .userRole("CLIENT")
+                    .transactionType("DEBIT")
+                    .amountMinor(amountMinor)
+                    .balanceBeforeMinor(clientWallet.getFrozenBalanceMinor() + amountMinor)
+                    .balanceAfterMinor(clientWallet.getFrozenBalanceMinor())
+                    .projectId(projectId)
+                    .description("Payment released to freelancer")
+                    .build();
+            recordTransaction(clientTransaction);
+            return null;
+        }, new WalletKey(clientId, "CLIENT"), new WalletKey(freelancerId, "FREELANCER"));
     }
 
     public List<FrozenAmountDTO> getClientFrozenAmounts(Long clientId) {
         List<WalletFreeze> frozenRecords = walletFreezeRepository.findByClientIdAndStatus(clientId, "FROZEN");
+        if (frozenRecords.isEmpty()) {
+            return List.of();
+        }
+
+        // Titles and hired freelancers of all the projects in one query
+        Map<Long, ProjectPartiesRow> projects = projectRepository.findPartiesByIdIn(
+                        frozenRecords.stream().map(WalletFreeze::getProjectId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProjectPartiesRow::getProjectId, Function.identity(), (first, second) -> first));
 
         return frozenRecords.stream()
                 .map(freeze -> {
-                    Project project = projectRepository.findById(freeze.getProjectId()).orElse(null);
+                    ProjectPartiesRow project = projects.get(freeze.getProjectId());
                     String projectTitle = project != null ? project.getTitle() : "Unknown Project";
-
-                    String freelancerName = "Unknown Freelancer";
-                    if (project != null) {
-                        Optional<Bids> acceptedBid = project.getBids().stream()
-                                .filter(bid -> bid.getStatus() == Bids.bidStatus.Accepted)
-                                .findFirst();
-                        if (acceptedBid.isPresent()) {
-                            freelancerName = acceptedBid.get().getFreelancer().getName();
-                        }
-                    }
+                    String freelancerName = project != null && project.getFreelancerName() != null
+                            ? project.getFreelancerName() : "Unknown Freelancer";
 
                     return FrozenAmountDTO.builder()
                             .projectId(freeze.getProjectId())
                             .projectTitle(projectTitle)
                             .freelancerName(freelancerName)
-                            .frozenAmount(freeze.getAmount())
+                            .frozenAmount(MinorUnits.toMajor(freeze.getAmountMinor()))
                             .status(freeze.getStatus())
                             .build();
                 })
@@ -255,52 +302,111 @@ public class WalletService {
     /**
      * Add money to wallet after Razorpay payment verification
      */
-    @Transactional
     public WalletResponseDTO addMoneyAfterVerification(Long userId, String role, Double amount,
                                                        String razorpayPaymentId, String razorpayOrderId) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("Amount must be positive");
-        }
-
+        long amountMinor = MinorUnits.toPositiveMinor(amount);
         String normalizedRole = normalizeRole(role);
 
-        // Get or create wallet
-        Wallet wallet = walletRepository.findByUserIdAndRole(userId, normalizedRole)
-                .orElseThrow(() -> new RuntimeException("Wallet not found. Please contact support."));
+        return inWalletTransaction(() -> {
+            // Update wallet balance
+            WalletBalance wallet = credit(userId, normalizedRole, amountMinor);
+
+            // Create transaction record with Razorpay details
+            WalletTransaction transaction = WalletTransaction.builder()
+                    .userId(userId)
+                    .userRole(normalizedRole)
+                    .transactionType("CREDIT")
+                    .amountMinor(amountMinor)
+                    .balanceBeforeMinor(wallet.getAvailableBalanceMinor() - amountMinor)
+                    .balanceAfterMinor(wallet.getAvailableBalanceMinor())
+                    .razorpayPaymentId(razorpayPaymentId)
+                    .razorpayOrderId(razorpayOrderId)
+                    .paymentMethod("RAZORPAY")
+                    .description("Money added via Razorpay payment")
+                    .build();
+            recordTransaction(transaction);
+
+            log.info("✅ Money added to wallet successfully. UserId: {}, Amount: {}, New Balance: {}",
+                    userId, amount, MinorUnits.toMajor(wallet.getAvailableBalanceMinor()));
+
+            return toResponse(wallet);
+        }, new WalletKey(userId, normalizedRole));
+    }
 
-        // Update wallet balance
-        Double balanceBefore = wallet.getAvailableBalance() != null ? wallet.getAvailableBalance() : 0.0;
-        Double newBalance = balanceBefore + amount;
-        wallet.setAvailableBalance(newBalance);
-        walletRepository.save(wallet);
+    /**
+     * Runs {@code work} in a new transaction, holding the locks of {@code wallets} from before it starts
+     * until it has committed. For callers whose own transaction changes balances through this service
+     * (e.g. accepting a bid freezes the client's funds), so that concurrent changes to the same wallet
+     * queue on its in-memory lock rather than on the wallet row. Must not be called inside a transaction.
+     */
+    public <T> T inLockedTransaction(Supplier<T> work, WalletKey... wallets) {
+        return walletLockManager.callLocked(
+                () -> new TransactionTemplate(transactionManager).execute(status -> work.get()), wallets);
+    }
 
-        // Create transaction record with Razorpay details
-        WalletTransaction transaction = WalletTransaction.builder()
-                .userId(userId)
-                .userRole(normalizedRole)
-                .transactionType("CREDIT")
-                .amount(amount)
-                .balanceBefore(balanceBefore)
-                .balanceAfter(newBalance)
-                .razorpayPaymentId(razorpayPaymentId)
-                .razorpayOrderId(razorpayOrderId)
-                .paymentMethod("RAZORPAY")
-                .description("Money added via Razorpay payment")
-                .build();
+    /**
+     * The lock key of a user's wallet; {@code role} may carry the {@code ROLE_} prefix.
+     */
+    public WalletKey walletKey(Long userId, String role) {
+        return new WalletKey(userId, normalizeRole(role));
+    }
+
+    // A change that joins a caller's transaction runs under the locks the caller took with
+    // inLockedTransaction; taking them only now would hold them while already holding row locks.
+    private <T> T inWalletTransaction(Supplier<T> change, WalletKey... wallets) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return change.get();
+        }
+        return inLockedTransaction(change, wallets);
+    }
+
+    // Writes a ledger row and adds it to the freelancer revenue rollup
+    private void recordTransaction(WalletTransaction transaction) {
         transactionRepository.save(transaction);
+        freelancerRevenueRollup.record(transaction);
+    }
 
-        log.info("✅ Money added to wallet successfully. UserId: {}, Amount: {}, New Balance: {}",
-                userId, amount, newBalance);
+    private WalletBalance credit(Long userId, String role, long amountMinor) {
+        if (walletRepository.credit(userId, role, amountMinor) == 0) {
+            throw new RuntimeException("Wallet not found. Please contact support.");
+        }
+        return reload(userId, role);
+    }
 
-        return toResponse(wallet);
+    // Reads a wallet's balances back after a conditional update
+    private WalletBalance reload(Long userId, String role) {
+        return walletRepository.findBalance(userId, role)
+                .orElseThrow(() -> new RuntimeException("Wallet not found. Please contact support."));
     }
 
     private Wallet createWalletEntity(Long userId, String role) {
         return Wallet.builder()
                 .userId(userId)
                 .role(role)
-                .availableBalance(0.0)
-                .frozenBalance(0.0)
+                .build();
+    }
+
+    private WalletTransactionDTO toTransactionResponse(WalletTransaction transaction) {
+        return WalletTransactionDTO.builder()
+                .transactionId(transaction.getTransactionId())
+                .transactionType(transaction.getTransactionType())
+                .amount(MinorUnits.toMajor(transaction.getAmountMinor()))
+                .balanceBefore(MinorUnits.toMajor(transaction.getBalanceBeforeMinor()))
+                .balanceAfter(MinorUnits.toMajor(transaction.getBalanceAfterMinor()))
+                .projectId(transaction.getProjectId())
+                .description(transaction.getDescription())
+                .paymentMethod(transaction.getPaymentMethod())
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+
+    private WalletResponseDTO toResponse(WalletBalance wallet) {
+        return WalletResponseDTO.builder()
+                .walletId(wallet.getWalletId())
+                .userId(wallet.getUserId())
+                .role(wallet.getRole())
+                .availableBalance(MinorUnits.toMajor(wallet.getAvailableBalanceMinor()))
+                .frozenBalance(MinorUnits.toMajor(wallet.getFrozenBalanceMinor()))
                 .build();
     }
 
@@ -309,8 +415,8 @@ public class WalletService {
                 .walletId(wallet.getWalletId())
                 .userId(wallet.getUserId())
                 .role(wallet.getRole())
-                .availableBalance(wallet.getAvailableBalance())
-                .frozenBalance(wallet.getFrozenBalance())
+                .availableBalance(MinorUnits.toMajor(wallet.getAvailableBalanceMinor()))
+                .frozenBalance(MinorUnits.toMajor(wallet.getFrozenBalanceMinor()))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.workorbit.backend.Chat.Service;
+
+import com.workorbit.backend.Auth.DTO.AppUserDetails;
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Chat.DTO.ChatMessageRequest;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Entity.ChatRoom;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Parked long polls and SSE streams must not hold a pooled connection while
+ * they wait, or a handful of idle subscribers starve every other request.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-parked-waiters",
+        "spring.datasource.hikari.maximum-pool-size=" + ChatMessageStreamsConnectionTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureMockMvc
+class ChatMessageStreamsConnectionTest {
+
+    static final int POOL_SIZE = 2;
+    private static final int WAITERS = POOL_SIZE * 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Test
+    void parkedWaitersDoNotHoldConnections() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        Client client = clientRepository.save(newClient(suffix));
+        Freelancer freelancer = freelancerRepository.save(newFreelancer(suffix));
+
+        ChatRoom room = new ChatRoom();
+        room.setChatType(ChatRoom.ChatType.BID_NEGOTIATION);
+        room.setReferenceId(freelancer.getId());
+        room.setClient(client);
+        room.setFreelancer(freelancer);
+        room.setStatus(ChatRoom.ChatStatus.ACTIVE);
+        Long roomId = chatRoomRepository.save(room).getId();
+
+        AppUserDetails clientDetails = new AppUserDetails(client.getAppUser());
+        List<MvcResult> parked = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            String path = i % 2 == 0 ? "/messages/wait" : "/messages/stream";
+            parked.add(mockMvc.perform(get("/api/chat/rooms/" + roomId + path)
+                            .param("afterId", "0")
+                            .param("wait", "30")
+                            .with(user(clientDetails)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+
+        // Would wait out the pool's connection timeout and fail if the waiters held the connections
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertEquals(1, chatService.getUserChatRooms(client.getId(), "CLIENT").size()));
+
+        chatService.sendMessage(new ChatMessageRequest(roomId, "wake up", ChatMessage.MessageType.TEXT),
+                client.getId(), "CLIENT");
+        parked.forEach(result -> result.getRequest().getAsyncContext().complete());
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("stream-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        user.setClientProfile(client);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("stream-freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        user.setFreelancerProfile(freelancer);
+        return freelancer;
+    }
+}
@@ -0,0 +1,161 @@
+package com.workorbit.backend.Chat.Service;
+
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Chat.DTO.ChatRoomResponse;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Entity.ChatRoom;
+import com.workorbit.backend.Chat.Repository.ChatMessageRepository;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Guards the chat room list against N+1 regressions: the rooms, the other
+ * party, each room's last message and its unread count come from one statement.
+ */
+@SpringBootTest
+class ChatRoomQueryCountTest {
+
+    private static final int ROOMS = 5;
+    private static final int MESSAGES_PER_SIDE = 3;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Client client;
+    private final List<Freelancer> freelancers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+        client = clientRepository.save(newClient(suffix));
+
+        for (int i = 0; i < ROOMS; i++) {
+            Freelancer freelancer = freelancerRepository.save(newFreelancer(suffix + "-" + i));
+            freelancers.add(freelancer);
+
+            ChatRoom room = new ChatRoom();
+            room.setChatType(ChatRoom.ChatType.BID_NEGOTIATION);
+            room.setReferenceId(freelancer.getId());
+            room.setClient(client);
+            room.setFreelancer(freelancer);
+            // the last room is closed so the active list has one room fewer
+            room.setStatus(i == ROOMS - 1 ? ChatRoom.ChatStatus.CLOSED : ChatRoom.ChatStatus.ACTIVE);
+            room = chatRoomRepository.save(room);
+
+            for (int j = 0; j < MESSAGES_PER_SIDE; j++) {
+                chatMessageRepository.save(newMessage(room, ChatMessage.SenderType.CLIENT, client.getId(), "from client " + j));
+                chatMessageRepository.save(newMessage(room, ChatMessage.SenderType.FREELANCER, freelancer.getId(), "from freelancer " + j));
+            }
+        }
+        // messages were saved directly, so bring the rooms' counters up to date
+        chatRoomRepository.repairMessageCounters();
+        statistics.clear();
+    }
+
+    @Test
+    void userChatRoomsUseSingleStatement() {
+        List<ChatRoomResponse> rooms = chatService.getUserChatRooms(client.getId(), "CLIENT");
+
+        assertEquals(ROOMS, rooms.size());
+        rooms.forEach(room -> {
+            // the client hasn't read anything the freelancer sent
+            assertEquals(MESSAGES_PER_SIDE, room.getUnreadCount());
+            assertNotNull(room.getLastMessage());
+            assertEquals("from freelancer " + (MESSAGES_PER_SIDE - 1), room.getLastMessage().getContent());
+            assertEquals(room.getOtherParty().getName(), room.getLastMessage().getSenderName());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void activeChatRoomsUseSingleStatement() {
+        List<ChatRoomResponse> rooms = chatService.getActiveChatRooms(client.getId(), "CLIENT");
+
+        assertEquals(ROOMS - 1, rooms.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void freelancerSeesClientAsOtherParty() {
+        Freelancer freelancer = freelancers.get(0);
+
+        List<ChatRoomResponse> rooms = chatService.getUserChatRooms(freelancer.getId(), "FREELANCER");
+
+        assertEquals(1, rooms.size());
+        ChatRoomResponse room = rooms.get(0);
+        assertEquals(client.getName(), room.getOtherParty().getName());
+        assertEquals(MESSAGES_PER_SIDE, room.getUnreadCount());
+        assertEquals(freelancer.getName(), room.getLastMessage().getSenderName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static ChatMessage newMessage(ChatRoom room, ChatMessage.SenderType senderType, Long senderId, String content) {
+        ChatMessage message = new ChatMessage();
+        message.setChatRoom(room);
+        message.setSenderType(senderType);
+        message.setSenderId(senderId);
+        message.setContent(content);
+        message.setMessageType(ChatMessage.MessageType.TEXT);
+        return message;
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("chat-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("chat-freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        return freelancer;
+    }
+}
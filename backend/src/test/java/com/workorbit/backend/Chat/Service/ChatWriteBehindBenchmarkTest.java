@@ -0,0 +1,226 @@
+package com.workorbit.backend.Chat.Service;
+
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Chat.DTO.ChatMessageRequest;
+import com.workorbit.backend.Chat.Entity.ChatMessage;
+import com.workorbit.backend.Chat.Entity.ChatRoom;
+import com.workorbit.backend.Chat.Repository.ChatMessageRepository;
+import com.workorbit.backend.Chat.Repository.ChatRoomRepository;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Compares sending chat messages through the synchronous path and the
+ * write-behind path, with several rooms sending concurrently, and checks that
+ * write-behind ends up with the same stored messages and room counters.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "app.chat.write-behind.enabled=true",
+        // A database of its own, since closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:chat-write-behind"
+})
+// Closes the write-behind log before the temporary directory holding it is deleted
+@DirtiesContext
+class ChatWriteBehindBenchmarkTest {
+
+    @TempDir
+    static Path logDir;
+
+    private static final int ROOMS = 8;
+    private static final int MESSAGES_PER_ROOM = 200;
+    private static final int WARMUP_MESSAGES_PER_ROOM = 100;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    private final List<ChatRoom> rooms = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void logDirProperty(DynamicPropertyRegistry registry) {
+        registry.add("app.chat.write-behind.log-dir", () -> logDir.toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        Client client = clientRepository.save(newClient(suffix));
+        for (int i = 0; i < ROOMS; i++) {
+            Freelancer freelancer = freelancerRepository.save(newFreelancer(suffix + "-" + i));
+            ChatRoom room = new ChatRoom();
+            room.setChatType(ChatRoom.ChatType.BID_NEGOTIATION);
+            room.setReferenceId(freelancer.getId());
+            room.setClient(client);
+            room.setFreelancer(freelancer);
+            rooms.add(chatRoomRepository.save(room));
+        }
+    }
+
+    @AfterEach
+    void restoreMode() {
+        ReflectionTestUtils.setField(chatMessageWriteBehind, "enabled", true);
+    }
+
+    @Test
+    void writeBehindMatchesSynchronousPath() throws Exception {
+        List<ChatRoom> synchronousRooms = rooms.subList(0, ROOMS / 2);
+        List<ChatRoom> writeBehindRooms = rooms.subList(ROOMS / 2, ROOMS);
+
+        // Warm both paths up so neither measurement pays for class loading and JIT compilation
+        ReflectionTestUtils.setField(chatMessageWriteBehind, "enabled", false);
+        sendAll(synchronousRooms, WARMUP_MESSAGES_PER_ROOM, "warmup ");
+        ReflectionTestUtils.setField(chatMessageWriteBehind, "enabled", true);
+        sendAll(writeBehindRooms, WARMUP_MESSAGES_PER_ROOM, "warmup ");
+        chatMessageWriteBehind.flush();
+
+        ReflectionTestUtils.setField(chatMessageWriteBehind, "enabled", false);
+        long synchronousNanos = sendAll(synchronousRooms, MESSAGES_PER_ROOM, "message ");
+
+        ReflectionTestUtils.setField(chatMessageWriteBehind, "enabled", true);
+        long acknowledgedNanos = sendAll(writeBehindRooms, MESSAGES_PER_ROOM, "message ");
+        long flushStart = System.nanoTime();
+        chatMessageWriteBehind.flush();
+        long writeBehindNanos = acknowledgedNanos + (System.nanoTime() - flushStart);
+
+        int messages = ROOMS / 2 * MESSAGES_PER_ROOM;
+        log.info(String.format("Chat send, %d messages over %d rooms: synchronous %.0f msg/s, "
+                        + "write-behind %.0f msg/s acknowledged, %.0f msg/s stored",
+                messages, ROOMS / 2, rate(messages, synchronousNanos), rate(messages, acknowledgedNanos),
+                rate(messages, writeBehindNanos)));
+
+        assertEquals(0, chatMessageWriteBehind.getPendingCount());
+        for (ChatRoom room : rooms) {
+            List<ChatMessage> stored = chatMessageRepository
+                    .findByChatRoom_IdAndIdGreaterThanOrderByIdAsc(room.getId(), 0L, Limit.unlimited());
+            assertEquals(WARMUP_MESSAGES_PER_ROOM + MESSAGES_PER_ROOM, stored.size());
+            // Each room's messages were sent in order by one thread
+            List<ChatMessage> measured = stored.subList(WARMUP_MESSAGES_PER_ROOM, stored.size());
+            for (int i = 0; i < measured.size(); i++) {
+                assertEquals("message " + i, measured.get(i).getContent());
+            }
+
+            int total = WARMUP_MESSAGES_PER_ROOM + MESSAGES_PER_ROOM;
+            ChatRoom counters = chatRoomRepository.findById(room.getId()).orElseThrow();
+            assertEquals(total / 2, counters.getClientUnreadCount());
+            assertEquals(total / 2, counters.getFreelancerUnreadCount());
+            assertEquals(stored.get(stored.size() - 1).getId(), counters.getLastMessageId());
+        }
+        assertEquals(0, chatRoomRepository.repairMessageCounters());
+    }
+
+    @Test
+    void writeBehindAcknowledgesWithoutId() {
+        ChatRoom room = rooms.get(0);
+        ChatMessageRequest request = newRequest(room, "queued");
+
+        var response = chatService.sendMessage(request, room.getClient().getId(), "CLIENT");
+
+        // Stored by the next flush (possibly the scheduled one)
+        assertNull(response.getId());
+        chatMessageWriteBehind.flush();
+        assertEquals(0, chatMessageWriteBehind.getPendingCount());
+        assertEquals(1, chatRoomRepository.findById(room.getId()).orElseThrow().getFreelancerUnreadCount());
+    }
+
+    private long sendAll(List<ChatRoom> targetRooms, int messagesPerRoom, String prefix) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(targetRooms.size());
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> senders = new ArrayList<>();
+            for (ChatRoom room : targetRooms) {
+                senders.add(executor.submit(() -> {
+                    for (int i = 0; i < messagesPerRoom; i++) {
+                        // Alternate sides, as in a negotiation
+                        boolean fromClient = i % 2 == 0;
+                        chatService.sendMessage(newRequest(room, prefix + i),
+                                fromClient ? room.getClient().getId() : room.getFreelancer().getId(),
+                                fromClient ? "CLIENT" : "FREELANCER");
+                    }
+                }));
+            }
+            for (Future<?> sender : senders) {
+                sender.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double rate(int messages, long nanos) {
+        return messages / (nanos / 1_000_000_000.0);
+    }
+
+    private static ChatMessageRequest newRequest(ChatRoom room, String content) {
+        ChatMessageRequest request = new ChatMessageRequest();
+        request.setChatRoomId(room.getId());
+        request.setContent(content);
+        request.setMessageType(ChatMessage.MessageType.TEXT);
+        return request;
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wb-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wb-freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        return freelancer;
+    }
+}
@@ -0,0 +1,193 @@
+package com.workorbit.backend.Service.project;
+
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.DTO.ClientDTO;
+import com.workorbit.backend.DTO.ProjectDTO;
+import com.workorbit.backend.DTO.ProjectFeedRequest;
+import com.workorbit.backend.DTO.ProjectFeedResponse;
+import com.workorbit.backend.DTO.ProjectRecommendationDTO;
+import com.workorbit.backend.Entity.Bids;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.Repository.BidRepository;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Service.category.CategoryDictionary;
+import com.workorbit.backend.Service.client.ClientService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the read paths that map projects to DTOs against N+1 regressions by
+ * counting the SQL statements Hibernate prepares per service call.
+ */
+@SpringBootTest
+class ProjectQueryCountTest {
+
+    private static final int PROJECTS = 6;
+    private static final int BIDS_PER_PROJECT = 3;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ProjectRecommendationService recommendationService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Client client;
+    private Freelancer freelancer;
+    private Project firstProject;
+    private String category;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+        category = "query-count-" + suffix;
+        Long categoryId = categoryDictionary.resolveId(category);
+        client = clientRepository.save(newClient(suffix));
+        freelancer = freelancerRepository.save(newFreelancer(suffix));
+
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("Description " + i);
+            project.setCategory(category);
+            project.setCategoryId(categoryId);
+            project.setBudget(1000L * (i + 1));
+            project.setDeadline(LocalDateTime.now().plusDays(i + 1));
+            project.setClient(client);
+            project = projectRepository.save(project);
+            if (firstProject == null) {
+                firstProject = project;
+            }
+
+            for (int j = 0; j < BIDS_PER_PROJECT; j++) {
+                Bids bid = new Bids();
+                bid.setProposal("Proposal " + j);
+                bid.setBidAmount(100.0 * (j + 1));
+                bid.setDurationDays(7);
+                bid.setTeamSize(1);
+                bid.setFreelancer(freelancer);
+                bid.setProject(project);
+                bidRepository.save(bid);
+            }
+        }
+        // bids were inserted directly, so bring the denormalized counts up to date
+        projectRepository.repairBidCounts();
+        statistics.clear();
+    }
+
+    @Test
+    void projectFeedPageUsesConstantNumberOfStatements() {
+        ProjectFeedResponse response = projectService.getProjectFeed(
+                ProjectFeedRequest.builder().category(category).size(PROJECTS).build());
+
+        assertEquals(PROJECTS, response.getItems().size());
+        response.getItems().forEach(this::assertMapped);
+        // one keyset query for the page, one projection query for its rows
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void projectByIdUsesSingleStatement() {
+        ProjectDTO project = projectService.getProjectById(firstProject.getId());
+
+        assertMapped(project);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void clientWithProjectsUsesConstantNumberOfStatements() {
+        ClientDTO dto = clientService.getClientDTOById(client.getId());
+
+        assertNotNull(dto);
+        assertEquals(PROJECTS, dto.getProjects().size());
+        dto.getProjects().forEach(this::assertMapped);
+
+        // one query for the client with its app user, one projection query for its projects
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void recommendationsReadBidHistoryWithoutLoadingBids() {
+        List<ProjectRecommendationDTO> recommendations = recommendationService.recommendProjects(freelancer.getId(), 10);
+
+        // the freelancer has bid on every project of this client
+        recommendations.forEach(recommendation ->
+                assertNotEquals(client.getId(), recommendation.getProject().getClientId()));
+        // freelancer exists, skills, bid history projection and (when there are hits) the project views
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "expected at most 4 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    private void assertMapped(ProjectDTO project) {
+        assertEquals(BIDS_PER_PROJECT, project.getBidCount());
+        assertEquals(client.getId(), project.getClientId());
+        assertNotNull(project.getClient());
+        assertEquals(client.getAppUser().getEmail(), project.getClient().getEmail());
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        return freelancer;
+    }
+}
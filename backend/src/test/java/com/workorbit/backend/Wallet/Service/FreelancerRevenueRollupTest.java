@@ -0,0 +1,92 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Wallet.Entity.FreelancerMonthlyRevenue;
+import com.workorbit.backend.Wallet.Entity.WalletTransaction;
+import com.workorbit.backend.Wallet.Repository.FreelancerMonthlyRevenueRepository;
+import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The daily repair brings the monthly revenue rollup back in line with the
+ * ledger, and can run while other instances build or repair it too.
+ */
+@SpringBootTest
+class FreelancerRevenueRollupTest {
+
+    @Autowired
+    private FreelancerRevenueRollup freelancerRevenueRollup;
+
+    @Autowired
+    private FreelancerMonthlyRevenueRepository monthlyRevenueRepository;
+
+    @Autowired
+    private WalletTransactionRepository transactionRepository;
+
+    private long freelancerId;
+    private LocalDateTime lastMonth;
+
+    @BeforeEach
+    void setUp() {
+        // An id no other test uses, with ledger rows written past the rollup
+        freelancerId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        lastMonth = LocalDateTime.now().minusMonths(1);
+        transactionRepository.save(ledgerRow("CREDIT", 4_000L, 1L));
+        transactionRepository.save(ledgerRow("CREDIT", 1_000L, 1L));
+        transactionRepository.save(ledgerRow("DEBIT", 2_500L, null));
+    }
+
+    @Test
+    void repairAddsMissingMonthsAndFixesDriftedOnes() {
+        freelancerRevenueRollup.repair();
+        assertLastMonth(5_000L, 2_500L, 2);
+
+        monthlyRevenueRepository.addToMonth(freelancerId, lastMonth.getYear(), lastMonth.getMonthValue(), 999L, 0L, 3);
+        freelancerRevenueRollup.repair();
+        assertLastMonth(5_000L, 2_500L, 2);
+    }
+
+    @Test
+    void monthAddedByAnotherInstanceIsLeftAlone() {
+        List<Object[]> missing = monthlyRevenueRepository.findMissingMonthsInLedger().stream()
+                .filter(month -> month[0].equals(freelancerId))
+                .toList();
+        assertEquals(1, missing.size());
+
+        // Another instance starting at the same time added the month first
+        monthlyRevenueRepository.insertMonthIfAbsent(freelancerId, lastMonth.getYear(), lastMonth.getMonthValue(),
+                5_000L, 2_500L, 2);
+        assertEquals(0, monthlyRevenueRepository.insertMonthIfAbsent(freelancerId, lastMonth.getYear(),
+                lastMonth.getMonthValue(), 5_000L, 2_500L, 2));
+        freelancerRevenueRollup.repair();
+        assertLastMonth(5_000L, 2_500L, 2);
+    }
+
+    private void assertLastMonth(long earnings, long withdrawn, int projectsPaid) {
+        List<FreelancerMonthlyRevenue> months = monthlyRevenueRepository
+                .findByFreelancerIdOrderByRevenueYearAscRevenueMonthAsc(freelancerId);
+        assertEquals(1, months.size());
+        assertEquals(earnings, months.get(0).getEarningsMinor());
+        assertEquals(withdrawn, months.get(0).getWithdrawnMinor());
+        assertEquals(projectsPaid, months.get(0).getProjectsPaid());
+    }
+
+    private WalletTransaction ledgerRow(String type, long amountMinor, Long projectId) {
+        return WalletTransaction.builder()
+                .userId(freelancerId)
+                .userRole("FREELANCER")
+                .transactionType(type)
+                .amountMinor(amountMinor)
+                .projectId(projectId)
+                .createdAt(lastMonth)
+                .build();
+    }
+}
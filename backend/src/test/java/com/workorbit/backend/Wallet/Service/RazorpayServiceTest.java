@@ -0,0 +1,114 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.razorpay.Utils;
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Wallet.DTO.VerifyPaymentRequest;
+import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A Razorpay payment is credited once, even when it is verified again while
+ * the first verification is still committing.
+ */
+@SpringBootTest
+class RazorpayServiceTest {
+
+    @Autowired
+    private RazorpayService razorpayService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletTransactionRepository transactionRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${razorpay.api.secret}")
+    private String razorpaySecret;
+
+    @Test
+    void concurrentVerificationOfSamePaymentCreditsOnce() throws Exception {
+        Long clientId = clientRepository.save(newClient(UUID.randomUUID().toString())).getId();
+        walletService.createWallet(clientId, "ROLE_CLIENT");
+        VerifyPaymentRequest request = verifyRequest(clientId, 250.00);
+
+        CountDownLatch credited = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        // The first verification has written its ledger row but not committed it yet
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    walletService.addMoneyAfterVerification(clientId, request.getRole(), request.getAmount(),
+                            request.getRazorpayPaymentId(), request.getRazorpayOrderId());
+                    credited.countDown();
+                    await(commit);
+                }));
+        assertTrue(credited.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> razorpayService.verifyAndAddToWallet(request));
+        Thread.sleep(500);
+        commit.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        Exception duplicate = assertThrows(Exception.class, () -> second.get(20, TimeUnit.SECONDS));
+        assertTrue(duplicate.getCause().getMessage().contains("Payment already processed"),
+                duplicate.getCause().getMessage());
+        assertEquals(250.00, walletService.getWallet(clientId, "ROLE_CLIENT").getAvailableBalance());
+        assertTrue(transactionRepository.existsByRazorpayPaymentId(request.getRazorpayPaymentId()));
+    }
+
+    private VerifyPaymentRequest verifyRequest(Long clientId, double amount) throws Exception {
+        String orderId = "order_" + UUID.randomUUID();
+        String paymentId = "pay_" + UUID.randomUUID();
+
+        VerifyPaymentRequest request = new VerifyPaymentRequest();
+        request.setRazorpayOrderId(orderId);
+        request.setRazorpayPaymentId(paymentId);
+        request.setRazorpaySignature(Utils.getHash(orderId + "|" + paymentId, razorpaySecret));
+        request.setUserId(clientId);
+        request.setRole("CLIENT");
+        request.setAmount(amount);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("razorpay-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+}
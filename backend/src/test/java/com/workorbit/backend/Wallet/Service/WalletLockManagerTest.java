@@ -0,0 +1,129 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Wallet.Service.WalletLockManager.WalletKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that one wallet's operations run one at a time, that other wallets
+ * don't wait for it, and that waits show up in the stripe's metrics.
+ */
+class WalletLockManagerTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WalletLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        lockManager = new WalletLockManager(meterRegistry);
+        ReflectionTestUtils.setField(lockManager, "stripeCount", 16);
+        ReflectionTestUtils.setField(lockManager, "lockTimeoutMillis", 10_000L);
+        lockManager.createStripes();
+    }
+
+    @Test
+    void serializesOperationsOnOneWallet() throws Exception {
+        WalletKey wallet = new WalletKey(42L, "CLIENT");
+        AtomicInteger inside = new AtomicInteger();
+        int[] balance = {0};
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        lockManager.callLocked(() -> {
+                            assertEquals(1, inside.incrementAndGet());
+                            // Unsynchronized read-modify-write; only the lock keeps it exact
+                            int read = balance[0];
+                            Thread.yield();
+                            balance[0] = read + 1;
+                            inside.decrementAndGet();
+                            return null;
+                        }, wallet);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, balance[0]);
+        String stripe = Integer.toString(lockManager.stripeOf(wallet));
+        assertEquals(THREADS * OPERATIONS_PER_THREAD,
+                meterRegistry.get("wallet.lock.acquired").tag("stripe", stripe).counter().count());
+        double contended = meterRegistry.get("wallet.lock.contended").tag("stripe", stripe).counter().count();
+        assertTrue(contended > 0);
+        assertEquals(contended, meterRegistry.get("wallet.lock.wait").tag("stripe", stripe).timer().count());
+    }
+
+    @Test
+    void otherWalletsDoNotWait() throws Exception {
+        WalletKey busy = new WalletKey(1L, "CLIENT");
+        WalletKey other = findKeyOnAnotherStripe(busy);
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> lockManager.callLocked(() -> {
+                held.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }, busy));
+            assertTrue(held.await(5, TimeUnit.SECONDS));
+
+            // Runs while the other wallet's lock is held
+            assertEquals("done", lockManager.callLocked(() -> "done", other));
+            release.countDown();
+            holder.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(0, meterRegistry.get("wallet.lock.contended")
+                .tag("stripe", Integer.toString(lockManager.stripeOf(other))).counter().count());
+    }
+
+    @Test
+    void locksSeveralWalletsOnTheSameStripeOnce() {
+        WalletKey wallet = new WalletKey(7L, "CLIENT");
+
+        assertEquals("done", lockManager.callLocked(() -> "done", wallet, wallet));
+        // Taken once, so fully released afterwards
+        assertEquals("again", lockManager.callLocked(() -> "again", wallet));
+    }
+
+    private WalletKey findKeyOnAnotherStripe(WalletKey wallet) {
+        for (long userId = 2; ; userId++) {
+            WalletKey candidate = new WalletKey(userId, "FREELANCER");
+            if (lockManager.stripeOf(candidate) != lockManager.stripeOf(wallet)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Entity.Bids;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.Repository.BidRepository;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Wallet.DTO.FreelancerRevenueDTO;
+import com.workorbit.backend.Wallet.DTO.FrozenAmountDTO;
+import com.workorbit.backend.Wallet.DTO.RevenueTransactionDTO;
+import com.workorbit.backend.Wallet.Entity.WalletFreeze;
+import com.workorbit.backend.Wallet.Entity.WalletTransaction;
+import com.workorbit.backend.Wallet.Repository.WalletFreezeRepository;
+import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the wallet views that label entries with project titles and parties
+ * against N+1 regressions: all projects are looked up in one statement.
+ */
+@SpringBootTest
+class WalletQueryCountTest {
+
+    private static final int PROJECTS = 5;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private FreelancerRevenueService freelancerRevenueService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private WalletFreezeRepository walletFreezeRepository;
+
+    @Autowired
+    private WalletTransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Client client;
+    private Freelancer hired;
+    private final List<Project> projects = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+        client = clientRepository.save(newClient(suffix));
+        hired = freelancerRepository.save(newFreelancer("hired-" + suffix));
+        Freelancer other = freelancerRepository.save(newFreelancer("other-" + suffix));
+        walletService.createWallet(hired.getId(), "FREELANCER");
+
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("Description " + i);
+            project.setCategory("wallet-" + suffix);
+            project.setBudget(1000L);
+            project.setDeadline(LocalDateTime.now().plusDays(30));
+            project.setClient(client);
+            project = projectRepository.save(project);
+            projects.add(project);
+
+            // The last project has no accepted bid yet
+            bidRepository.save(newBid(project, other, Bids.bidStatus.Rejected));
+            bidRepository.save(newBid(project, hired,
+                    i < PROJECTS - 1 ? Bids.bidStatus.Accepted : Bids.bidStatus.Pending));
+
+            walletFreezeRepository.save(WalletFreeze.builder()
+                    .clientId(client.getId())
+                    .projectId(project.getId())
+                    .amountMinor(10_000L)
+                    .status("FROZEN")
+                    .build());
+            transactionRepository.save(WalletTransaction.builder()
+                    .userId(hired.getId())
+                    .userRole("FREELANCER")
+                    .transactionType("CREDIT")
+                    .amountMinor(10_000L)
+                    .projectId(project.getId())
+                    .build());
+        }
+        // A second payout for a project that was already paid
+        transactionRepository.save(WalletTransaction.builder()
+                .userId(hired.getId())
+                .userRole("FREELANCER")
+                .transactionType("CREDIT")
+                .amountMinor(2_500L)
+                .projectId(projects.get(0).getId())
+                .build());
+        // An entry that isn't about a project
+        transactionRepository.save(WalletTransaction.builder()
+                .userId(hired.getId())
+                .userRole("FREELANCER")
+                .transactionType("DEBIT")
+                .amountMinor(5_000L)
+                .build());
+        statistics.clear();
+    }
+
+    @Test
+    void frozenAmountsUseConstantNumberOfStatements() {
+        List<FrozenAmountDTO> frozen = walletService.getClientFrozenAmounts(client.getId());
+
+        assertEquals(PROJECTS, frozen.size());
+        for (FrozenAmountDTO amount : frozen) {
+            Project project = projects.stream().filter(p -> p.getId().equals(amount.getProjectId())).findFirst().orElseThrow();
+            assertEquals(project.getTitle(), amount.getProjectTitle());
+            assertEquals(project == projects.get(PROJECTS - 1) ? "Unknown Freelancer" : hired.getName(),
+                    amount.getFreelancerName());
+            assertEquals(100.0, amount.getFrozenAmount());
+        }
+        // one query for the freezes, one for their projects
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void revenueTransactionsUseConstantNumberOfStatements() {
+        FreelancerRevenueDTO revenue = freelancerRevenueService.getFreelancerRevenue(hired.getId());
+
+        List<RevenueTransactionDTO> transactions = revenue.getRecentTransactions();
+        assertEquals(PROJECTS + 2, transactions.size());
+        assertEquals(PROJECTS, revenue.getCompletedProjects());
+        for (RevenueTransactionDTO transaction : transactions) {
+            if (transaction.getProjectId() == null) {
+                assertEquals("Unknown Project", transaction.getProjectTitle());
+                assertEquals("WITHDRAWN", transaction.getStatus());
+            } else {
+                assertEquals(client.getName(), transaction.getClientName());
+            }
+        }
+        // freelancer, wallet, monthly rollup, paid projects, recent transactions and one query for their projects
+        assertEquals(6, statistics.getPrepareStatementCount());
+    }
+
+    private static Bids newBid(Project project, Freelancer freelancer, Bids.bidStatus status) {
+        Bids bid = new Bids();
+        bid.setProposal("Proposal");
+        bid.setBidAmount(100.0);
+        bid.setDurationDays(7);
+        bid.setTeamSize(1);
+        bid.setStatus(status);
+        bid.setFreelancer(freelancer);
+        bid.setProject(project);
+        return bid;
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wallet-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wallet-freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        return freelancer;
+    }
+}
@@ -0,0 +1,369 @@
+package com.workorbit.backend.Wallet.Service;
+
+import com.workorbit.backend.Auth.Entity.AppUser;
+import com.workorbit.backend.Auth.Entity.Role;
+import com.workorbit.backend.Auth.Service.EmailService;
+import com.workorbit.backend.DTO.BidDTO;
+import com.workorbit.backend.Entity.Bids;
+import com.workorbit.backend.Entity.Client;
+import com.workorbit.backend.Entity.Freelancer;
+import com.workorbit.backend.Entity.Project;
+import com.workorbit.backend.Repository.BidRepository;
+import com.workorbit.backend.Repository.ClientRepository;
+import com.workorbit.backend.Repository.FreelancerRepository;
+import com.workorbit.backend.Repository.ProjectRepository;
+import com.workorbit.backend.Service.bid.BidService;
+import com.workorbit.backend.Wallet.DTO.WalletRequestDTO;
+import com.workorbit.backend.Wallet.DTO.WalletResponseDTO;
+import com.workorbit.backend.Wallet.DTO.WithdrawRequestDTO;
+import com.workorbit.backend.Wallet.Entity.FreelancerMonthlyRevenue;
+import com.workorbit.backend.Wallet.Entity.Wallet;
+import com.workorbit.backend.Wallet.Entity.WalletTransaction;
+import com.workorbit.backend.Wallet.Repository.FreelancerMonthlyRevenueRepository;
+import com.workorbit.backend.Wallet.Repository.WalletRepository;
+import com.workorbit.backend.Wallet.Repository.WalletTransactionRepository;
+import com.workorbit.backend.Wallet.Service.WalletLockManager.WalletKey;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers single wallets from many threads at once and checks that no balance
+ * change is lost, no balance goes negative, and the ledger adds up to the
+ * final balances.
+ */
+@SpringBootTest
+class WalletServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 40;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletTransactionRepository transactionRepository;
+
+    @Autowired
+    private FreelancerMonthlyRevenueRepository monthlyRevenueRepository;
+
+    @Autowired
+    private WalletLockManager walletLockManager;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Contract emails are sent asynchronously from entities still attached to the accepting transaction
+    @MockitoBean
+    private EmailService emailService;
+
+    private long clientId;
+    private long freelancerId;
+
+    @BeforeEach
+    void setUp() {
+        // Ids no other test uses, so the ledger holds only this test's rows
+        clientId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        freelancerId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        walletService.createWallet(clientId, "ROLE_CLIENT");
+        walletService.createWallet(freelancerId, "ROLE_FREELANCER");
+    }
+
+    @Test
+    void concurrentDepositsAndFreezesAreNotLost() throws Exception {
+        walletService.addMoney(deposit(clientId, "CLIENT", 10.00));
+
+        AtomicInteger deposits = new AtomicInteger();
+        AtomicInteger freezes = new AtomicInteger();
+        AtomicInteger rejectedFreezes = new AtomicInteger();
+        runConcurrently((thread, i) -> {
+            if ((thread + i) % 2 == 0) {
+                walletService.addMoney(deposit(clientId, "CLIENT", 1.10));
+                deposits.incrementAndGet();
+            } else {
+                try {
+                    walletService.freezeAmount(clientId, (long) thread * OPERATIONS_PER_THREAD + i, 0.70);
+                    freezes.incrementAndGet();
+                } catch (RuntimeException e) {
+                    assertEquals("Insufficient funds to accept this bid.", e.getMessage());
+                    rejectedFreezes.incrementAndGet();
+                }
+            }
+        });
+
+        Wallet wallet = walletRepository.findByUserIdAndRole(clientId, "CLIENT").orElseThrow();
+        assertEquals(1000 + deposits.get() * 110L - freezes.get() * 70L, wallet.getAvailableBalanceMinor());
+        assertEquals(freezes.get() * 70L, wallet.getFrozenBalanceMinor());
+        assertTrue(wallet.getAvailableBalanceMinor() >= 0);
+
+        List<WalletTransaction> ledger = transactionRepository.findByUserIdAndUserRoleOrderByCreatedAtDesc(clientId, "CLIENT");
+        assertEquals(1 + deposits.get() + freezes.get(), ledger.size());
+        assertEquals(wallet.getAvailableBalanceMinor(),
+                sum(ledger, "CREDIT") - sum(ledger, "FREEZE"));
+        assertLedgerChains(ledger);
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws Exception {
+        walletService.addMoney(deposit(freelancerId, "FREELANCER", 5.00));
+
+        AtomicInteger deposits = new AtomicInteger();
+        AtomicInteger withdrawals = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently((thread, i) -> {
+            // Mostly withdrawals, so the balance keeps running dry
+            if (i % 4 == 0) {
+                walletService.addMoney(deposit(freelancerId, "FREELANCER", 0.30));
+                deposits.incrementAndGet();
+            } else {
+                WithdrawRequestDTO request = new WithdrawRequestDTO();
+                request.setUserId(freelancerId);
+                request.setAmount(0.25);
+                try {
+                    WalletResponseDTO response = walletService.withdraw(request);
+                    assertTrue(response.getAvailableBalance() >= 0);
+                    withdrawals.incrementAndGet();
+                } catch (RuntimeException e) {
+                    assertEquals("Insufficient balance for withdrawal.", e.getMessage());
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        assertTrue(rejected.get() > 0, "the balance should have run out at some point");
+        Wallet wallet = walletRepository.findByUserIdAndRole(freelancerId, "FREELANCER").orElseThrow();
+        assertEquals(500 + deposits.get() * 30L - withdrawals.get() * 25L, wallet.getAvailableBalanceMinor());
+        assertTrue(wallet.getAvailableBalanceMinor() >= 0);
+
+        List<WalletTransaction> ledger = transactionRepository
+                .findByUserIdAndUserRoleOrderByCreatedAtDesc(freelancerId, "FREELANCER");
+        assertEquals(wallet.getAvailableBalanceMinor(), sum(ledger, "CREDIT") - sum(ledger, "DEBIT"));
+        assertLedgerChains(ledger);
+
+        // The revenue rollup saw every ledger row
+        List<FreelancerMonthlyRevenue> months = monthlyRevenueRepository
+                .findByFreelancerIdOrderByRevenueYearAscRevenueMonthAsc(freelancerId);
+        assertEquals(sum(ledger, "CREDIT"), months.stream().mapToLong(FreelancerMonthlyRevenue::getEarningsMinor).sum());
+        assertEquals(sum(ledger, "DEBIT"), months.stream().mapToLong(FreelancerMonthlyRevenue::getWithdrawnMinor).sum());
+    }
+
+    @Test
+    void frozenPaymentIsReleasedOnce() throws Exception {
+        walletService.addMoney(deposit(clientId, "CLIENT", 100.00));
+        walletService.freezeAmount(clientId, 1L, 40.00);
+
+        AtomicInteger released = new AtomicInteger();
+        runConcurrently(THREADS, 1, (thread, i) -> {
+            try {
+                walletService.releasePayment(clientId, freelancerId, 1L, 40.00);
+                released.incrementAndGet();
+            } catch (RuntimeException e) {
+                assertEquals("No frozen funds found for this project and client.", e.getMessage());
+            }
+        });
+
+        assertEquals(1, released.get());
+        Wallet client = walletRepository.findByUserIdAndRole(clientId, "CLIENT").orElseThrow();
+        Wallet freelancer = walletRepository.findByUserIdAndRole(freelancerId, "FREELANCER").orElseThrow();
+        assertEquals(6000, client.getAvailableBalanceMinor());
+        assertEquals(0, client.getFrozenBalanceMinor());
+        assertEquals(4000, freelancer.getAvailableBalanceMinor());
+
+        FreelancerMonthlyRevenue month = monthlyRevenueRepository
+                .findByFreelancerIdOrderByRevenueYearAscRevenueMonthAsc(freelancerId).get(0);
+        assertEquals(4000, month.getEarningsMinor());
+        assertEquals(1, month.getProjectsPaid());
+    }
+
+    @Test
+    void acceptBidQueuesOnClientWalletLockBeforeItsTransaction() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        Client client = clientRepository.save(newClient(suffix));
+        Freelancer freelancer = freelancerRepository.save(newFreelancer(suffix));
+        Project project = projectRepository.save(newProject(client));
+        // Placed through the service, which also opens the bid's negotiation chat
+        BidDTO bid = new BidDTO();
+        bid.setFreelancerId(freelancer.getId());
+        bid.setProjectId(project.getId());
+        bid.setProposal("Proposal");
+        bid.setBidAmount(30.00);
+        bid.setDurationDays(7L);
+        bid.setTeamSize(1);
+        Long bidId = bidService.placeBid(bid).getId();
+
+        walletService.createWallet(client.getId(), "ROLE_CLIENT");
+        walletService.addMoney(deposit(client.getId(), "CLIENT", 100.00));
+
+        WalletKey clientWallet = new WalletKey(client.getId(), "CLIENT");
+        Gauge queued = meterRegistry.get("wallet.lock.queued")
+                .tag("stripe", Integer.toString(walletLockManager.stripeOf(clientWallet)))
+                .gauge();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Another change to the client's wallet is in progress
+            executor.submit(() -> walletLockManager.callLocked(() -> {
+                held.countDown();
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, clientWallet));
+            assertTrue(held.await(5, TimeUnit.SECONDS));
+
+            Future<Long> contractId = executor.submit(() -> bidService.acceptBid(bidId, client.getId()));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (queued.value() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, queued.value());
+            // Waiting on the lock, not on the wallet row inside its transaction
+            assertEquals(Bids.bidStatus.Pending, bidRepository.findById(bidId).orElseThrow().getStatus());
+
+            release.countDown();
+            assertNotNull(contractId.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        Wallet wallet = walletRepository.findByUserIdAndRole(client.getId(), "CLIENT").orElseThrow();
+        assertEquals(7000, wallet.getAvailableBalanceMinor());
+        assertEquals(3000, wallet.getFrozenBalanceMinor());
+        assertEquals(Bids.bidStatus.Accepted, bidRepository.findById(bidId).orElseThrow().getStatus());
+    }
+
+    private interface Operation {
+        void run(int thread, int i) throws Exception;
+    }
+
+    private void runConcurrently(Operation operation) throws Exception {
+        runConcurrently(THREADS, OPERATIONS_PER_THREAD, operation);
+    }
+
+    private void runConcurrently(int threads, int operationsPerThread, Operation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        operation.run(thread, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Each row's balance before and after differ by its amount, and no balance is negative
+    private static void assertLedgerChains(List<WalletTransaction> ledger) {
+        for (WalletTransaction transaction : ledger) {
+            long change = transaction.getTransactionType().equals("CREDIT")
+                    ? transaction.getAmountMinor() : -transaction.getAmountMinor();
+            assertEquals(transaction.getBalanceBeforeMinor() + change, transaction.getBalanceAfterMinor());
+            assertTrue(transaction.getBalanceAfterMinor() >= 0);
+        }
+    }
+
+    private static long sum(List<WalletTransaction> ledger, String type) {
+        return ledger.stream()
+                .filter(transaction -> transaction.getTransactionType().equals(type))
+                .mapToLong(WalletTransaction::getAmountMinor)
+                .sum();
+    }
+
+    private static Project newProject(Client client) {
+        Project project = new Project();
+        project.setTitle("Wallet lock project");
+        project.setDescription("Accepting a bid freezes the client's funds");
+        project.setCategory("Web Development");
+        project.setCategoryId(1L);
+        project.setBudget(1000L);
+        project.setDeadline(LocalDateTime.now().plusDays(7));
+        project.setClient(client);
+        return project;
+    }
+
+    private static Client newClient(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wallet-client-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_CLIENT);
+
+        Client client = new Client();
+        client.setName("Client " + suffix);
+        client.setAppUser(user);
+        return client;
+    }
+
+    private static Freelancer newFreelancer(String suffix) {
+        AppUser user = new AppUser();
+        user.setEmail("wallet-freelancer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Role.ROLE_FREELANCER);
+
+        Freelancer freelancer = new Freelancer();
+        freelancer.setName("Freelancer " + suffix);
+        freelancer.setAppUser(user);
+        return freelancer;
+    }
+
+    private static WalletRequestDTO deposit(long userId, String role, double amount) {
+        WalletRequestDTO request = new WalletRequestDTO();
+        request.setUserId(userId);
+        request.setRole(role);
+        request.setAmount(amount);
+        return request;
+    }
+}
@@ -1,6 +1,6 @@
 // hooks/use-get-projects.ts
 import useAuth from "@/hooks/use-auth";
-import { useQuery } from "react-query";
+import { useInfiniteQuery } from "react-query";
 import apis from "../apis";
 import { toast } from "sonner";
 
@@ -12,13 +12,21 @@ const useGetProjects = (searchText = "") => {
     refetch,
     data: response,
     error,
-  } = useQuery({
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useInfiniteQuery({
     queryKey: ["GET_PROJECTS", searchText],
-    queryFn: () =>
+    queryFn: ({ pageParam }) =>
       apis.getProjects({
         authToken,
-        params: { q: searchText },
+        params: { q: searchText, cursor: pageParam },
       }),
+    // The feed is cursor-paged; stop once the server reports no more rows
+    getNextPageParam: (lastPage) =>
+      lastPage?.data?.data?.hasMore
+        ? lastPage.data.data.nextCursor
+        : undefined,
     onError: (err: any) => {
       toast.error("ERROR", {
         description: err?.response?.data?.message || "Failed to fetch projects",
@@ -31,9 +39,12 @@ const useGetProjects = (searchText = "") => {
   return {
     isLoading,
     refetch,
-    projects: response?.data?.data,
+    projects: response?.pages.flatMap((page) => page?.data?.data?.items ?? []),
     error,
+    loadMore: fetchNextPage,
+    hasMore: !!hasNextPage,
+    isLoadingMore: isFetchingNextPage,
   };
 };
 
-export default useGetProjects;
\ No newline at end of file
+export default useGetProjects;
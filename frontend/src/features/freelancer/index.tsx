@@ -3,6 +3,7 @@ import useGetProjects from "./hooks/use-get-projects";
 import ProjectCard from "./components/project-card";
 import ProjectFilters, { type SortConfig } from "./components/projects-filters";
 import { FullscreenLoader } from "@/components/shared/full-screen-loader";
+import { Button } from "@/components/ui/button";
 import type { Project } from "@/types";
 
 const BrowseProjects = () => {
@@ -12,7 +13,8 @@ const BrowseProjects = () => {
     sortDir: "desc",
   });
 
-  const { projects, isLoading, error } = useGetProjects(searchText);
+  const { projects, isLoading, error, loadMore, hasMore, isLoadingMore } =
+    useGetProjects(searchText);
 
   const safeProjects = Array.isArray(projects) ? projects : [];
   const openProjects = safeProjects.filter(
@@ -85,6 +87,19 @@ const BrowseProjects = () => {
           ))}
         </div>
       )}
+
+      {!error && hasMore && (
+        <div className="flex justify-center">
+          <Button
+            variant="outline"
+            onClick={() => loadMore()}
+            disabled={isLoadingMore}
+            className="border-gray-200 text-gray-700 hover:border-blue-300 hover:text-blue-600 shadow-sm"
+          >
+            {isLoadingMore ? "Loading..." : "Load more projects"}
+          </Button>
+        </div>
+      )}
     </section>
   );
 };
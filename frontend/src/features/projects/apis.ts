@@ -12,10 +12,11 @@ const apis = {
       authToken
     }),
   
-  getProjects: ({ authToken }: RequestType) =>
+  getProjects: ({ params, authToken }: RequestType) =>
     request({
       method: "GET",
       url: urls.getProjects,
+      params,
       authToken
     }),
   
@@ -1,5 +1,5 @@
 import React from "react";
-import { useSelector } from "react-redux";
+import { useDispatch, useSelector } from "react-redux";
 import { format } from "date-fns";
 import {
     CalendarIcon,
@@ -23,10 +23,14 @@ import { Skeleton } from "@/components/ui/skeleton";
 
 import type { Project } from "../types";
 import {
+    fetchMoreProjects,
     selectProjects,
+    selectProjectsHasMore,
     selectProjectsLoading,
+    selectProjectsNextCursor,
 } from "@/store/slices/projects-slice";
-import type { RootState } from "@/store";
+import type { AppDispatch, RootState } from "@/store";
+import useAuth from "@/hooks/use-auth";
 import { useErrorHandler } from "@/hooks/use-error-handler";
 import { useNavigate } from "react-router-dom";
 
@@ -39,10 +43,33 @@ const ProjectList: React.FC<ProjectListProps> = ({
     filterStatus,
     onCreateProject,
 }) => {
+    const dispatch = useDispatch<AppDispatch>();
+    const { authToken } = useAuth();
     const loading = useSelector(selectProjectsLoading);
     const projects = useSelector(selectProjects);
+    const nextCursor = useSelector(selectProjectsNextCursor);
+    const hasMore = useSelector(selectProjectsHasMore);
     const { user } = useSelector((state: RootState) => state.auth);
 
+    const handleLoadMore = () => {
+        if (authToken && nextCursor) {
+            dispatch(fetchMoreProjects({ cursor: nextCursor, authToken }));
+        }
+    };
+
+    const loadMoreButton = hasMore && (
+        <div className="flex justify-center mt-6">
+            <Button
+                variant="outline"
+                onClick={handleLoadMore}
+                disabled={loading.moreProjects}
+                className="cursor-pointer"
+            >
+                {loading.moreProjects ? "Loading..." : "Load more projects"}
+            </Button>
+        </div>
+    );
+
     const clientProjects = projects.filter(
         (project) => project.clientId === user?.id
     );
@@ -57,19 +84,25 @@ const ProjectList: React.FC<ProjectListProps> = ({
 
     if (filteredProjects.length === 0) {
         return (
-            <EmptyProjectList
-                status={filterStatus}
-                onCreateProject={onCreateProject}
-            />
+            <>
+                <EmptyProjectList
+                    status={filterStatus}
+                    onCreateProject={onCreateProject}
+                />
+                {loadMoreButton}
+            </>
         );
     }
 
     return (
-        <div className="grid gap-6 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4">
-            {filteredProjects.map((project) => (
-                <ProjectCard key={project.id} project={project} />
-            ))}
-        </div>
+        <>
+            <div className="grid gap-6 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4">
+                {filteredProjects.map((project) => (
+                    <ProjectCard key={project.id} project={project} />
+                ))}
+            </div>
+            {loadMoreButton}
+        </>
     );
 };
 
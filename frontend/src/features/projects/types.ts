@@ -82,6 +82,13 @@ export interface ProjectFormData {
     deadline: Date;
 }
 
+export interface ProjectFeedResponse {
+    items: Project[];
+    nextCursor: string | null;
+    hasMore: boolean;
+    size: number;
+}
+
 export interface GetProjectsResponse {
     projects: Project[];
     total: number;
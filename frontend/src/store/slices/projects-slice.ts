@@ -4,7 +4,8 @@ import type {
   BidResponse, 
   ApiResponse, 
   ProjectCreateRequest,
-  BidActionRequest 
+  BidActionRequest,
+  ProjectFeedResponse
 } from "@/features/projects/types";
 import projectApis from "@/features/projects/apis";
 import type { RootState } from "../index";
@@ -13,8 +14,11 @@ interface ProjectsState {
   projects: Project[];
   currentProject: Project | null;
   currentProjectBids: BidResponse[];
+  nextCursor: string | null;
+  hasMore: boolean;
   loading: {
     projects: boolean;
+    moreProjects: boolean;
     createProject: boolean;
     projectDetails: boolean;
     bidAction: boolean;
@@ -31,8 +35,11 @@ const initialState: ProjectsState = {
   projects: [],
   currentProject: null,
   currentProjectBids: [],
+  nextCursor: null,
+  hasMore: false,
   loading: {
     projects: false,
+    moreProjects: false,
     createProject: false,
     projectDetails: false,
     bidAction: false,
@@ -50,7 +57,19 @@ export const fetchProjects = createAsyncThunk(
   async (authToken: string, { rejectWithValue }) => {
     try {
       const response = await projectApis.getProjects({ authToken });
-      return response.data as ApiResponse<Project[]>;
+      return response.data as ApiResponse<ProjectFeedResponse>;
+    } catch (error: any) {
+      return rejectWithValue(error.response?.data?.error || "Failed to fetch projects");
+    }
+  }
+);
+
+export const fetchMoreProjects = createAsyncThunk(
+  "projects/fetchMoreProjects",
+  async ({ cursor, authToken }: { cursor: string; authToken: string }, { rejectWithValue }) => {
+    try {
+      const response = await projectApis.getProjects({ params: { cursor }, authToken });
+      return response.data as ApiResponse<ProjectFeedResponse>;
     } catch (error: any) {
       return rejectWithValue(error.response?.data?.error || "Failed to fetch projects");
     }
@@ -156,7 +175,9 @@ const projectsSlice = createSlice({
       .addCase(fetchProjects.fulfilled, (state, action) => {
         state.loading.projects = false;
         if (action.payload.status === "success" && action.payload.data) {
-          state.projects = action.payload.data;
+          state.projects = action.payload.data.items;
+          state.nextCursor = action.payload.data.nextCursor;
+          state.hasMore = action.payload.data.hasMore;
         } else {
           state.error.projects = action.payload.error || "Failed to fetch projects";
         }
@@ -166,6 +187,27 @@ const projectsSlice = createSlice({
         state.error.projects = action.payload as string;
       });
 
+    builder
+      .addCase(fetchMoreProjects.pending, (state) => {
+        state.loading.moreProjects = true;
+        state.error.projects = null;
+      })
+      .addCase(fetchMoreProjects.fulfilled, (state, action) => {
+        state.loading.moreProjects = false;
+        if (action.payload.status === "success" && action.payload.data) {
+          const loaded = new Set(state.projects.map(p => p.id));
+          state.projects.push(...action.payload.data.items.filter(p => !loaded.has(p.id)));
+          state.nextCursor = action.payload.data.nextCursor;
+          state.hasMore = action.payload.data.hasMore;
+        } else {
+          state.error.projects = action.payload.error || "Failed to fetch projects";
+        }
+      })
+      .addCase(fetchMoreProjects.rejected, (state, action) => {
+        state.loading.moreProjects = false;
+        state.error.projects = action.payload as string;
+      });
+
     builder
       .addCase(createProject.pending, (state) => {
         state.loading.createProject = true;
@@ -282,6 +324,8 @@ export const selectCurrentProject = (state: RootState) => state.projects.current
 export const selectCurrentProjectBids = (state: RootState) => state.projects.currentProjectBids;
 export const selectProjectsLoading = (state: RootState) => state.projects.loading;
 export const selectProjectsError = (state: RootState) => state.projects.error;
+export const selectProjectsNextCursor = (state: RootState) => state.projects.nextCursor;
+export const selectProjectsHasMore = (state: RootState) => state.projects.hasMore;
 
 export const selectClientProjects = (clientId: number | undefined) => (state: RootState) => {
   if (!clientId) return [];